@@ -0,0 +1,32 @@
+// src/jmh/java/com/aussieinvader/bench/AnalyticalBenchmark.java
+package com.aussieinvader.bench;
+
+import com.aussieinvader.core.AnalyticalSolver;
+import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.VehicleParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Аналитическая кривая из 200 точек при разном числе членов ряда
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticalBenchmark {
+
+    @Param({"5", "20", "50", "100"})
+    public int terms;
+
+    @Param({"200"})
+    public int plotPoints;
+
+    private final VehicleParameters params = VehicleParameters.DEFAULT;
+
+    @Benchmark
+    public SimulationResult solve() {
+        return AnalyticalSolver.solve(params, terms, plotPoints);
+    }
+}
@@ -0,0 +1,71 @@
+// src/jmh/java/com/aussieinvader/bench/BatchRK4Benchmark.java
+package com.aussieinvader.bench;
+
+import com.aussieinvader.core.BatchRK4;
+import com.aussieinvader.core.BatchState;
+import com.aussieinvader.core.MaxTracker;
+import com.aussieinvader.core.NumericalSolver;
+import com.aussieinvader.core.VehicleParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Пакет из lanes траекторий RK4: векторный пакет, скалярный пакет и решение по одной траектории,
+// как до пакетного RK4. Одна операция — весь пакет, так что время делится на lanes одинаково
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BatchRK4Benchmark {
+
+    @Param({"1024"})
+    public int lanes;
+
+    @Param({"1000"})
+    public int steps;
+
+    private final BatchRK4 vector = BatchRK4.getDefault();
+    private final BatchRK4 scalar = BatchRK4.scalar();
+    private VehicleParameters[] params;
+
+    @Setup
+    public void setUp() {
+        // Разброс ±20% по Q, U, BETA, MU, как в переборе параметров
+        SplittableRandom random = new SplittableRandom(1);
+        VehicleParameters d = VehicleParameters.DEFAULT;
+        params = new VehicleParameters[lanes];
+        for (int i = 0; i < lanes; i++) {
+            params[i] = new VehicleParameters(d.m0, d.mFinal, d.q * random.nextDouble(0.8, 1.2),
+                    d.u * random.nextDouble(0.8, 1.2), d.beta * random.nextDouble(0.8, 1.2),
+                    d.mu * random.nextDouble(0.8, 1.2), d.g);
+        }
+    }
+
+    @Benchmark
+    public BatchState vectorBatch() {
+        BatchState state = new BatchState(params, steps);
+        vector.integrate(state, steps);
+        return state;
+    }
+
+    @Benchmark
+    public BatchState scalarBatch() {
+        BatchState state = new BatchState(params, steps);
+        scalar.integrate(state, steps);
+        return state;
+    }
+
+    @Benchmark
+    public double perTrajectory() {
+        double sum = 0;
+        for (VehicleParameters p : params) {
+            MaxTracker tracker = new MaxTracker();
+            NumericalSolver.solveRK4(p, steps, tracker);
+            sum += tracker.getMaxVelocity();
+        }
+        return sum;
+    }
+}
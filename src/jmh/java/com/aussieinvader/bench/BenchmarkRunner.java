@@ -0,0 +1,23 @@
+// src/jmh/java/com/aussieinvader/bench/BenchmarkRunner.java
+package com.aussieinvader.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Точка входа benchmarks.jar: обычные аргументы JMH плюс всегда включённый профилировщик GC,
+// который выводит скорость и объём выделений (gc.alloc.rate, gc.alloc.rate.norm).
+// Пример: java -jar target/benchmarks.jar SolverBenchmark -p steps=1000,1000000
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
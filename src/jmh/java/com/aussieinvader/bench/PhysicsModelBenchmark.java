@@ -0,0 +1,55 @@
+// src/jmh/java/com/aussieinvader/bench/PhysicsModelBenchmark.java
+package com.aussieinvader.bench;
+
+import com.aussieinvader.core.ForceModel;
+import com.aussieinvader.core.PhysicsModel;
+import com.aussieinvader.core.VehicleParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Одно вычисление правой части dv/dt. Состояние читается из полей, чтобы JIT не свернул вызов в константу.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhysicsModelBenchmark {
+
+    private final VehicleParameters params = VehicleParameters.DEFAULT;
+    // Та же формула, заданная выражением: сравнение собранной модели с написанной вручную
+    private final VehicleParameters expression = VehicleParameters.DEFAULT
+            .withForceModel(ForceModel.parse("thrust/m - BETA*v^2/m - MU*G"));
+    // Четыре разных выражения по очереди: вызовы между узлами дерева видят много реализаций,
+    // как в GUI после нескольких смен модели
+    private final VehicleParameters[] expressions = {
+            expression,
+            VehicleParameters.DEFAULT.withForceModel(ForceModel.parse("thrust/m - BETA*v*v/m - MU*G*(1+v/1000)")),
+            VehicleParameters.DEFAULT.withForceModel(ForceModel.parse("thrust/m - BETA*abs(v)*v/m - MU*G")),
+            VehicleParameters.DEFAULT.withForceModel(ForceModel.parse("(thrust - BETA*v^2)/m - MU*G*tanh(v)"))
+    };
+    private int next;
+    private double v = 250.0;
+    private double m = 7500.0;
+
+    @Benchmark
+    public double dvdtDefault() {
+        return PhysicsModel.dvdt(v, m);
+    }
+
+    @Benchmark
+    public double dvdtParams() {
+        return PhysicsModel.dvdt(params, v, m);
+    }
+
+    @Benchmark
+    public double dvdtExpression() {
+        return PhysicsModel.dvdt(expression, v, m);
+    }
+
+    @Benchmark
+    public double dvdtExpressionMixed() {
+        return PhysicsModel.dvdt(expressions[next++ & 3], v, m);
+    }
+}
@@ -0,0 +1,32 @@
+// src/jmh/java/com/aussieinvader/bench/SimulationResultBenchmark.java
+package com.aussieinvader.bench;
+
+import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.Trajectory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Запись траектории и построение SimulationResult без стоимости решателя
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SimulationResultBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int points;
+
+    @Benchmark
+    public SimulationResult build() {
+        Trajectory trajectory = new Trajectory(points + 1);
+        double dt = 1.0 / points;
+        for (int i = 0; i <= points; i++) {
+            double t = i * dt;
+            trajectory.add(t, 400 * t, 9100 - 2800 * t);
+        }
+        return new SimulationResult(trajectory, "bench");
+    }
+}
@@ -0,0 +1,43 @@
+// src/jmh/java/com/aussieinvader/bench/SolverBenchmark.java
+package com.aussieinvader.bench;
+
+import com.aussieinvader.core.MaxTracker;
+import com.aussieinvader.core.NumericalSolver;
+import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.VehicleParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Полное решение методами Эйлера и RK4 с сохранением траектории и в потоковом режиме
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int steps;
+
+    private final VehicleParameters params = VehicleParameters.DEFAULT;
+
+    @Benchmark
+    public SimulationResult euler() {
+        return NumericalSolver.solveEuler(params, steps);
+    }
+
+    @Benchmark
+    public SimulationResult rk4() {
+        return NumericalSolver.solveRK4(params, steps);
+    }
+
+    // Без хранения траектории: показывает стоимость самого интегрирования
+    @Benchmark
+    public double rk4Streaming() {
+        MaxTracker tracker = new MaxTracker();
+        NumericalSolver.solveRK4(params, steps, tracker);
+        return tracker.getMaxVelocity();
+    }
+}
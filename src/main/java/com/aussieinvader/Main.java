@@ -1,12 +1,21 @@
 package com.aussieinvader;
 
+import com.aussieinvader.cli.BatchRunner;
+import com.aussieinvader.core.SolverMetrics;
 import com.aussieinvader.gui.MainFrame;
 
 import javax.swing.*;
 import javax.swing.UIManager;
+import java.awt.GraphicsEnvironment;
 
 public class Main {
     public static void main(String[] args) {
+        // Счётчики решателей доступны через JMX (jconsole, VisualVM): com.aussieinvader:type=SolverMetrics
+        SolverMetrics.registerMBean();
+        // С аргументами или без дисплея — консольный режим
+        if (args.length > 0 || GraphicsEnvironment.isHeadless()) {
+            System.exit(BatchRunner.run(args));
+        }
         SwingUtilities.invokeLater(() -> {
             try {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -0,0 +1,468 @@
+// src/main/java/com/aussieinvader/cli/BatchRunner.java
+package com.aussieinvader.cli;
+
+import com.aussieinvader.core.AnalyticalSolver;
+import com.aussieinvader.core.ComparisonReport;
+import com.aussieinvader.core.ConvergenceStudy;
+import com.aussieinvader.core.ForceModel;
+import com.aussieinvader.core.MaxTracker;
+import com.aussieinvader.core.MethodComparison;
+import com.aussieinvader.core.MissionProfile;
+import com.aussieinvader.core.MissionSolver;
+import com.aussieinvader.core.MonteCarloStudy;
+import com.aussieinvader.core.NumericalSolver;
+import com.aussieinvader.core.Parameter;
+import com.aussieinvader.core.SimulationEvent;
+import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.SolutionCache;
+import com.aussieinvader.core.SolverStats;
+import com.aussieinvader.core.SolverMetrics;
+import com.aussieinvader.core.TrajectorySink;
+import com.aussieinvader.core.TrajectoryStore;
+import com.aussieinvader.core.VehicleParameters;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Консольный режим без GUI: запуск решателей из аргументов или файла заданий
+// с потоковой записью траектории в CSV или двоичный файл.
+public class BatchRunner {
+
+    static final String USAGE = String.join("\n",
+            "Использование: java com.aussieinvader.Main [опции] | --job <файл>",
+            "  --method euler|rk4|adaptive|analytical   метод (по умолчанию rk4)",
+            "  --steps N        число шагов Эйлера/RK4 (50)",
+            "  --terms N        число членов ряда (20)",
+            "  --points N       точки аналитической кривой / плотной выдачи адаптивного метода (200, 0 — только шаги)",
+            "  --atol X --rtol X  допуски адаптивного метода (1e-6)",
+            "  --format csv|bin формат вывода (по расширению файла, иначе csv)",
+            "  --out <файл>     файл вывода (по умолчанию stdout)",
+            "  --converge TOL   вместо траектории — исследование сходимости euler/rk4 от --steps до допуска TOL м/с",
+            "  --reference analytical|richardson   эталон исследования сходимости (richardson)",
+            "  --monte-carlo N  вместо траектории — вероятность рекорда по N выборкам RK4 (--steps) с разбросом BETA, MU, U",
+            "  --spread X       относительное σ разброса для --monte-carlo (0.05)",
+            "  --ci X           останов --monte-carlo, когда полуширина 95% интервала вероятности ≤ X (0.005, 0 — без останова)",
+            "  --seed N         начальное значение генератора --monte-carlo (1)",
+            "  --compare X      вместо траектории — все методы параллельно (--steps, --terms, --atol) и самый быстрый",
+            "                   с погрешностью vmax ≤ X м/с относительно аналитического решения",
+            "  --phases burn|all  только горение или заезд целиком: горение, накат, торможение до остановки (burn)",
+            "  --coast X --brake-drag X --brake-decel X --max-time X   сценарий --phases all:",
+            "                   накат, с (5); парашют, кг/м (1); тормоза, м/с² (0); предел расчёта, с (600)",
+            "  --store <каталог>  хранилище траекторий: готовый прогон читается оттуда, новый сохраняется",
+            "  --M0 --M_FINAL --Q --U --BETA --MU --G <значение>   параметры модели",
+            "  --force <выражение>  своя модель dv/dt от v, m, thrust и параметров, например thrust/m-BETA*v^2/m-MU*G",
+            "  --job <файл>     файл заданий: по одному набору опций в строке, # — комментарий");
+
+    // Не более 2^20 удвоений базового числа шагов
+    private static final int CONVERGENCE_LEVELS = 21;
+
+    public static int run(String[] args) {
+        return run(args, System.out, System.err);
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        List<Job> jobs;
+        try {
+            jobs = parseCommandLine(Arrays.asList(args));
+        } catch (IllegalArgumentException e) {
+            err.println("Ошибка: " + e.getMessage());
+            err.println(USAGE);
+            return 2;
+        } catch (IOException e) {
+            err.println("Не удалось прочитать файл заданий: " + e.getMessage());
+            return 1;
+        }
+
+        for (Job job : jobs) {
+            try {
+                execute(job, out, err);
+            } catch (IOException | UncheckedIOException e) {
+                err.println("Ошибка записи (" + job.describe() + "): " + e.getMessage());
+                return 1;
+            } catch (RuntimeException e) {
+                err.println("Ошибка во время симуляции (" + job.describe() + "): " + e.getMessage());
+                return 1;
+            }
+        }
+        if (SolverMetrics.ENABLED) {
+            err.print("Метрики решателей:\n" + SolverMetrics.dump());
+        }
+        return 0;
+    }
+
+    static List<Job> parseCommandLine(List<String> args) throws IOException {
+        if (args.isEmpty()) {
+            throw new IllegalArgumentException("не заданы опции");
+        }
+        if (args.get(0).equals("--job")) {
+            if (args.size() != 2) {
+                throw new IllegalArgumentException("--job принимает ровно один файл");
+            }
+            List<Job> jobs = new ArrayList<>();
+            for (String line : Files.readAllLines(Path.of(args.get(1)), StandardCharsets.UTF_8)) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                jobs.add(Job.parse(Arrays.asList(line.split("\\s+"))));
+            }
+            return jobs;
+        }
+        return List.of(Job.parse(args));
+    }
+
+    static void execute(Job job, PrintStream out, PrintStream err) throws IOException {
+        if (!Double.isNaN(job.compareTolerance)) {
+            ComparisonReport report = new MethodComparison().run(job.params, job.steps, job.terms, job.absTol);
+            out.print(report);
+            ComparisonReport.Row fastest = report.fastestWithin(job.compareTolerance);
+            out.println(fastest == null
+                    ? "Ни один метод не уложился в погрешность " + job.compareTolerance + " м/с"
+                    : "Самый быстрый с погрешностью vmax ≤ " + job.compareTolerance + " м/с: " + fastest.getMethodName());
+            return;
+        }
+        if (job.monteCarloSamples > 0) {
+            out.print(MonteCarloStudy.relativeUncertainty(job.params, job.spread)
+                    .run(job.steps, job.monteCarloSamples, job.confidenceHalfWidth, job.seed));
+            return;
+        }
+        if (!Double.isNaN(job.convergenceTolerance)) {
+            out.print(new ConvergenceStudy().run(job.params, job.method, job.steps, CONVERGENCE_LEVELS,
+                    job.convergenceTolerance, job.reference));
+            return;
+        }
+        if (job.mission != null) {
+            executeMission(job, out, err);
+            return;
+        }
+        long start = System.nanoTime();
+        long points;
+        MaxTracker tracker = new MaxTracker();
+        TrajectoryStore store = job.store == null ? null : TrajectoryStore.open(job.store);
+        SolutionCache.Key key = job.key();
+        SimulationResult stored = store == null ? null : store.load(key);
+        try (TrajectoryWriter writer = job.openWriter(out)) {
+            TrajectorySink sink = (t, v, m) -> {
+                writer.add(t, v, m);
+                tracker.add(t, v, m);
+            };
+            if (stored != null) {
+                for (int i = 0; i < stored.size(); i++) {
+                    sink.add(stored.getTime(i), stored.getVelocity(i), stored.getMass(i));
+                }
+            } else if (store != null) {
+                // Точки идут одновременно в файл вывода и в хранилище
+                try (TrajectoryStore.Writer storeWriter = store.writer(key, job.methodName())) {
+                    SolverStats stats = job.solve((t, v, m) -> {
+                        sink.add(t, v, m);
+                        storeWriter.add(t, v, m);
+                    });
+                    storeWriter.commit(stats);
+                }
+            } else {
+                job.solve(sink);
+            }
+            points = writer.getCount();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1e9;
+        err.printf(Locale.ROOT, "%s%s: %d точек за %.3f с (%.0f точек/с), vmax = %.4f м/с при t = %.4f с%n",
+                job.describe(), stored != null ? " [из хранилища]" : "", points, seconds,
+                seconds > 0 ? points / seconds : 0.0, tracker.getMaxVelocity(), tracker.getTimeOfMaxVelocity());
+    }
+
+    // Заезд целиком: точки с пройденным путём идут в вывод (и в хранилище) по мере вычисления,
+    // события печатаются в stderr
+    private static void executeMission(Job job, PrintStream out, PrintStream err) throws IOException {
+        long start = System.nanoTime();
+        TrajectoryStore store = job.store == null ? null : TrajectoryStore.open(job.store);
+        SolutionCache.Key key = job.key();
+        SimulationResult stored = store == null ? null : store.load(key);
+        SimulationResult result;
+        try (TrajectoryWriter writer = job.openWriter(out)) {
+            if (stored != null || job.method.equals("analytical")) {
+                result = stored != null ? stored : AnalyticalSolver.solveMission(job.mission, job.terms, job.points);
+                for (int i = 0; i < result.size(); i++) {
+                    writer.add(result.getTime(i), result.getVelocity(i), result.getMass(i), result.getDistance(i));
+                }
+                if (stored == null && store != null) {
+                    store.save(key, result);
+                }
+            } else if (store != null) {
+                // Точки идут одновременно в файл вывода и в хранилище
+                try (TrajectoryStore.Writer storeWriter = store.writer(key, job.methodName(), true)) {
+                    result = MissionSolver.solve(job.mission, job.method, job.steps, new TrajectorySink() {
+                        @Override
+                        public void add(double t, double v, double m) {
+                            add(t, v, m, Double.NaN);
+                        }
+
+                        @Override
+                        public void add(double t, double v, double m, double x) {
+                            writer.add(t, v, m, x);
+                            storeWriter.add(t, v, m, x);
+                        }
+                    });
+                    storeWriter.commit(result);
+                }
+            } else {
+                result = MissionSolver.solve(job.mission, job.method, job.steps, writer);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        err.printf(Locale.ROOT, "%s%s: %d точек за %.3f с, vmax = %.4f м/с при t = %.4f с%n",
+                job.describe(), stored != null ? " [из хранилища]" : "", result.size(), seconds,
+                result.getMaxVelocity(), result.getTimeOfMaxVelocity());
+        for (SimulationEvent event : result.getEvents()) {
+            err.println("  " + event);
+        }
+    }
+
+    // Одно задание: метод, его настройки, параметры модели и куда писать результат
+    static final class Job {
+        String method = "rk4";
+        int steps = 50;
+        int terms = 20;
+        int points = 200;
+        double absTol = 1e-6;
+        double relTol = 1e-6;
+        String format;
+        Path output;
+        Path store;
+        double convergenceTolerance = Double.NaN;
+        double compareTolerance = Double.NaN;
+        long monteCarloSamples;
+        double spread = 0.05;
+        double confidenceHalfWidth = 0.005;
+        long seed = 1;
+        ConvergenceStudy.Reference reference = ConvergenceStudy.Reference.RICHARDSON;
+        VehicleParameters params = VehicleParameters.DEFAULT;
+        String phases = "burn";
+        double coastDuration = MissionProfile.DEFAULT_COAST_DURATION;
+        double brakeDrag = MissionProfile.DEFAULT_BRAKE_DRAG;
+        double brakeDeceleration = MissionProfile.DEFAULT_BRAKE_DECELERATION;
+        double maxTime = MissionProfile.DEFAULT_MAX_TIME;
+        // Сценарий заезда при --phases all, иначе null
+        MissionProfile mission;
+
+        static Job parse(List<String> args) {
+            Job job = new Job();
+            for (int i = 0; i < args.size(); i++) {
+                String option = args.get(i);
+                if (!option.startsWith("--") || i + 1 >= args.size()) {
+                    throw new IllegalArgumentException("ожидалась опция со значением: " + option);
+                }
+                String value = args.get(++i);
+                String name = option.substring(2);
+                switch (name) {
+                    case "method": job.method = value.toLowerCase(Locale.ROOT); break;
+                    case "steps": job.steps = parseInt(name, value); break;
+                    case "terms": job.terms = parseInt(name, value); break;
+                    case "points": job.points = parseInt(name, value); break;
+                    case "atol": job.absTol = parseDouble(name, value); break;
+                    case "rtol": job.relTol = parseDouble(name, value); break;
+                    case "format": job.format = value.toLowerCase(Locale.ROOT); break;
+                    case "out": job.output = Path.of(value); break;
+                    case "store": job.store = Path.of(value); break;
+                    case "force": job.params = job.params.withForceModel(ForceModel.parse(value)); break;
+                    case "converge": job.convergenceTolerance = parseDouble(name, value); break;
+                    case "compare": job.compareTolerance = parseDouble(name, value); break;
+                    case "monte-carlo": job.monteCarloSamples = parseLong(name, value); break;
+                    case "spread": job.spread = parseDouble(name, value); break;
+                    case "ci": job.confidenceHalfWidth = parseDouble(name, value); break;
+                    case "seed": job.seed = parseLong(name, value); break;
+                    case "reference": job.reference = reference(value); break;
+                    case "phases": job.phases = value.toLowerCase(Locale.ROOT); break;
+                    case "coast": job.coastDuration = parseDouble(name, value); break;
+                    case "brake-drag": job.brakeDrag = parseDouble(name, value); break;
+                    case "brake-decel": job.brakeDeceleration = parseDouble(name, value); break;
+                    case "max-time": job.maxTime = parseDouble(name, value); break;
+                    default: job.params = parameter(name).with(job.params, parseDouble(name, value));
+                }
+            }
+            job.validate();
+            return job;
+        }
+
+        private void validate() {
+            if (!List.of("euler", "rk4", "adaptive", "analytical").contains(method)) {
+                throw new IllegalArgumentException("неизвестный метод: " + method);
+            }
+            if (format == null) {
+                format = output != null && output.toString().endsWith(".bin") ? "bin" : "csv";
+            }
+            if (!format.equals("csv") && !format.equals("bin")) {
+                throw new IllegalArgumentException("неизвестный формат: " + format);
+            }
+            if (steps <= 0 || terms < 0 || points < 0) {
+                throw new IllegalArgumentException("steps должно быть > 0, terms и points — ≥ 0");
+            }
+            if (method.equals("analytical") && !AnalyticalSolver.isApplicable(params)) {
+                throw new IllegalArgumentException(AnalyticalSolver.unavailableReason(params));
+            }
+            if (method.equals("analytical") && points == 0) {
+                throw new IllegalArgumentException("для аналитического решения нужно points > 0");
+            }
+            if (monteCarloSamples < 0 || !(spread >= 0) || !(confidenceHalfWidth >= 0)) {
+                throw new IllegalArgumentException("--monte-carlo, --spread и --ci не могут быть отрицательными");
+            }
+            if (monteCarloSamples > 0 && !method.equals("rk4")) {
+                throw new IllegalArgumentException("--monte-carlo считается методом rk4");
+            }
+            if (!Double.isNaN(convergenceTolerance)
+                    && (!(convergenceTolerance > 0) || !(method.equals("euler") || method.equals("rk4")))) {
+                throw new IllegalArgumentException("--converge требует допуск > 0 и метод euler или rk4");
+            }
+            if (!Double.isNaN(convergenceTolerance) && reference == ConvergenceStudy.Reference.ANALYTICAL
+                    && !AnalyticalSolver.isApplicable(params)) {
+                throw new IllegalArgumentException("--reference analytical: " + AnalyticalSolver.unavailableReason(params));
+            }
+            if (!Double.isNaN(compareTolerance) && !(compareTolerance > 0)) {
+                throw new IllegalArgumentException("--compare требует допуск > 0");
+            }
+            if (!Double.isNaN(compareTolerance) && !AnalyticalSolver.isApplicable(params)) {
+                throw new IllegalArgumentException("--compare: " + AnalyticalSolver.unavailableReason(params));
+            }
+            if (!phases.equals("burn") && !phases.equals("all")) {
+                throw new IllegalArgumentException("--phases: ожидалось burn или all, получено " + phases);
+            }
+            if (phases.equals("all")) {
+                if (method.equals("adaptive") || monteCarloSamples > 0 || !Double.isNaN(convergenceTolerance)) {
+                    throw new IllegalArgumentException("--phases all считается методами euler, rk4 и analytical"
+                            + " без --converge и --monte-carlo");
+                }
+                mission = new MissionProfile(params, coastDuration, brakeDrag, brakeDeceleration, maxTime);
+            }
+        }
+
+        SolverStats solve(TrajectorySink sink) {
+            switch (method) {
+                case "euler": return NumericalSolver.solveEuler(params, steps, sink);
+                case "rk4": return NumericalSolver.solveRK4(params, steps, sink);
+                case "adaptive": return NumericalSolver.solveAdaptive(params, absTol, relTol, points, sink);
+                case "analytical":
+                    AnalyticalSolver.solve(params, terms, points, sink);
+                    return SolverStats.NONE;
+                default: throw new AssertionError(method);
+            }
+        }
+
+        // Ключи SolutionCache для тех же расчётов. С GUI (-Daussieinvader.store) совпадают только заезды
+        // и аналитическое решение с теми же настройками: GUI считает Эйлера и RK4 с событиями
+        // ("euler-events", "rk4-events"), а пакет — без них, и такие прогоны друг другу не подходят
+        SolutionCache.Key key() {
+            if (mission != null) {
+                return method.equals("analytical")
+                        ? SolutionCache.missionKey(method, mission, terms, points)
+                        : SolutionCache.missionKey(method, mission, steps);
+            }
+            switch (method) {
+                case "euler":
+                case "rk4": return new SolutionCache.Key(method, params, steps);
+                case "adaptive": return new SolutionCache.Key(method, params, absTol, relTol, points);
+                case "analytical": return new SolutionCache.Key(method, params, terms, points);
+                default: throw new AssertionError(method);
+            }
+        }
+
+        String methodName() {
+            switch (method) {
+                case "euler": return "Метод Эйлера";
+                case "rk4": return "Рунге-Кутта 4";
+                case "adaptive": return "Дорманд-Принс 5(4)";
+                default: return "Аналитическое (" + terms + " членов)";
+            }
+        }
+
+        TrajectoryWriter openWriter(PrintStream stdout) throws IOException {
+            WritableByteChannel channel = output == null
+                    ? Channels.newChannel(new NonClosingStream(stdout))
+                    : FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            // У заезда целиком есть пройденный путь — он идёт четвёртым столбцом
+            boolean distance = mission != null;
+            return format.equals("bin") ? new BinaryTrajectoryWriter(channel, distance)
+                    : new CsvTrajectoryWriter(channel, distance);
+        }
+
+        String describe() {
+            if (mission != null) {
+                return method + " (" + (method.equals("analytical") ? terms + " членов" : steps + " шагов")
+                        + "), заезд целиком";
+            }
+            switch (method) {
+                case "euler":
+                case "rk4": return method + " (" + steps + " шагов)";
+                case "adaptive": return method + " (atol=" + absTol + ", rtol=" + relTol + ")";
+                default: return method + " (" + terms + " членов)";
+            }
+        }
+
+        private static ConvergenceStudy.Reference reference(String value) {
+            try {
+                return ConvergenceStudy.Reference.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("неизвестный эталон: " + value);
+            }
+        }
+
+        private static Parameter parameter(String name) {
+            for (Parameter p : Parameter.values()) {
+                if (p.getLabel().equalsIgnoreCase(name)) return p;
+            }
+            throw new IllegalArgumentException("неизвестная опция: --" + name);
+        }
+
+        private static int parseInt(String name, String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("--" + name + ": ожидалось целое число, получено " + value);
+            }
+        }
+
+        private static long parseLong(String name, String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("--" + name + ": ожидалось целое число, получено " + value);
+            }
+        }
+
+        private static double parseDouble(String name, String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("--" + name + ": ожидалось число, получено " + value);
+            }
+        }
+    }
+
+    // stdout не должен закрываться вместе с каналом записи
+    private static final class NonClosingStream extends java.io.FilterOutputStream {
+        NonClosingStream(PrintStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// src/main/java/com/aussieinvader/cli/BinaryTrajectoryWriter.java
+package com.aussieinvader.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Компактный двоичный формат, little-endian:
+//   int32 MAGIC ("AITR"), int32 VERSION, int64 число точек (−1, если канал не позволяет дописать его в конце),
+//   далее записи по три float64: t, v, m. Версия 2 (с distance) — записи по четыре float64: t, v, m, x.
+class BinaryTrajectoryWriter extends TrajectoryWriter {
+    static final int MAGIC = 0x52544941; // "AITR" в порядке little-endian
+    static final int VERSION = 1;
+    static final int VERSION_WITH_DISTANCE = 2;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 3 * Double.BYTES;
+    static final int RECORD_SIZE_WITH_DISTANCE = 4 * Double.BYTES;
+
+    private final long headerPosition;
+
+    BinaryTrajectoryWriter(WritableByteChannel channel, boolean distance) throws IOException {
+        super(channel, distance);
+        headerPosition = channel instanceof SeekableByteChannel ? ((SeekableByteChannel) channel).position() : -1;
+        buffer.putInt(MAGIC).putInt(distance ? VERSION_WITH_DISTANCE : VERSION).putLong(-1L);
+    }
+
+    @Override
+    protected void write(double t, double v, double m, double x) throws IOException {
+        ensureCapacity(distance ? RECORD_SIZE_WITH_DISTANCE : RECORD_SIZE);
+        buffer.putDouble(t).putDouble(v).putDouble(m);
+        if (distance) {
+            buffer.putDouble(x);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            if (headerPosition >= 0) {
+                SeekableByteChannel seekable = (SeekableByteChannel) channel;
+                ByteBuffer countField = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                countField.putLong(count).flip();
+                seekable.position(headerPosition + 8);
+                while (countField.hasRemaining()) {
+                    seekable.write(countField);
+                }
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
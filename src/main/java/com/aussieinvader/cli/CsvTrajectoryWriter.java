@@ -0,0 +1,39 @@
+// src/main/java/com/aussieinvader/cli/CsvTrajectoryWriter.java
+package com.aussieinvader.cli;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+// CSV: заголовок "t,v,m", затем по строке на точку (время в с, скорость в м/с, масса в кг);
+// с distance — заголовок "t,v,m,x" и путь в м последним столбцом
+class CsvTrajectoryWriter extends TrajectoryWriter {
+    // Одна строка точки: до четырёх чисел по ≤ 24 символа и разделители
+    private static final int MAX_LINE = 104;
+
+    private final StringBuilder line = new StringBuilder(MAX_LINE);
+
+    CsvTrajectoryWriter(WritableByteChannel channel, boolean distance) throws IOException {
+        super(channel, distance);
+        line.append(distance ? "t,v,m,x\n" : "t,v,m\n");
+        put();
+    }
+
+    @Override
+    protected void write(double t, double v, double m, double x) throws IOException {
+        line.setLength(0);
+        line.append(t).append(',').append(v).append(',').append(m);
+        if (distance) {
+            line.append(',').append(x);
+        }
+        line.append('\n');
+        put();
+    }
+
+    // Строка состоит только из ASCII, поэтому кодировка сводится к побайтовому копированию
+    private void put() throws IOException {
+        ensureCapacity(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            buffer.put((byte) line.charAt(i));
+        }
+    }
+}
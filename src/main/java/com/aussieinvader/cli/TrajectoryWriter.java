@@ -0,0 +1,70 @@
+// src/main/java/com/aussieinvader/cli/TrajectoryWriter.java
+package com.aussieinvader.cli;
+
+import com.aussieinvader.core.TrajectorySink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+// Потоковая запись траектории в канал через буфер: точки уходят на диск по мере вычисления.
+// С distance у точки четвёртый столбец — пройденный путь x (заезд целиком).
+abstract class TrajectoryWriter implements TrajectorySink, AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    protected final WritableByteChannel channel;
+    protected final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    protected final boolean distance;
+    protected long count;
+
+    TrajectoryWriter(WritableByteChannel channel, boolean distance) {
+        this.channel = channel;
+        this.distance = distance;
+    }
+
+    @Override
+    public final void add(double t, double v, double m) {
+        add(t, v, m, Double.NaN);
+    }
+
+    // x пишется, только если формат со столбцом пути
+    @Override
+    public final void add(double t, double v, double m, double x) {
+        try {
+            write(t, v, m, x);
+        } catch (IOException e) {
+            // TrajectorySink не объявляет проверяемых исключений
+            throw new UncheckedIOException(e);
+        }
+        count++;
+    }
+
+    protected abstract void write(double t, double v, double m, double x) throws IOException;
+
+    protected void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    protected void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    long getCount() { return count; }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -3,80 +3,296 @@ package com.aussieinvader.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
 public class AnalyticalSolver {
-
-    private static final double NU = 2 * Math.sqrt(PhysicsModel.BETA * PhysicsModel.U / PhysicsModel.Q);
-    private static final double C = calculateConstantC();
+    // При целом ν функции J_ν и J_−ν линейно зависимы, и рекуррентность 1/(k − ν) делит на ноль
+    private static final double INTEGER_NU_EPSILON = 1e-9;
 
     // Вычисление константы C из начального условия v(0) = 0
-    private static double calculateConstantC() {
-        double tau0 = (2.0 / PhysicsModel.Q) * Math.sqrt(PhysicsModel.BETA * PhysicsModel.MU * PhysicsModel.M0 * PhysicsModel.G);
-        double y1Prime = computeY1Prime(tau0, 50);
-        double y2Prime = computeY2Prime(tau0, 50);
-        return -y2Prime / y1Prime;
+    // (кешируется в VehicleParameters, см. getAnalyticalConstant)
+    static double computeConstantC(VehicleParameters p) {
+        requireApplicable(p);
+        double tau0 = tau(p, p.m0);
+        Series series = new Series(p.getNu(), 50, tau0 * tau0);
+        double x2 = tau0 * tau0;
+        // Общий множитель τ^(ν−1) сокращается, поэтому C = −y2'/y1' = −τ^(−2ν)·S2'/S1'
+        double y1PrimeSum = series.horner(series.b1, x2);
+        double y2PrimeSum = series.horner(series.b2, x2);
+        return -Math.pow(tau0, -2 * p.getNu()) * y2PrimeSum / y1PrimeSum;
     }
 
     public static SimulationResult solve(int terms, int plotPoints) {
-        double tBurn = PhysicsModel.getBurnTime();
+        return solve(VehicleParameters.DEFAULT, terms, plotPoints);
+    }
+
+    public static SimulationResult solve(VehicleParameters p, int terms, int plotPoints) {
+        Trajectory trajectory = new Trajectory(plotPoints + 1);
+        solve(p, terms, plotPoints, trajectory);
+        return new SimulationResult(trajectory, "Аналитическое (" + terms + " членов)");
+    }
+
+    // Потоковый вариант: значения решения передаются в приёмник по мере вычисления
+    public static void solve(VehicleParameters p, int terms, int plotPoints, TrajectorySink sink) {
+        requireApplicable(p);
+        SolverMetrics.Probe probe = SolverMetrics.begin(SolverMetrics.Phase.ANALYTICAL);
+        double tBurn = p.getBurnTime();
         double dt = tBurn / plotPoints;
-        List<SimulationResult.DataPoint> data = new ArrayList<>();
+        // Коэффициенты рядов считаются один раз на кривую, а не в каждой точке
+        double tau0 = tau(p, p.m0);
+        Series series = new Series(p.getNu(), terms, tau0 * tau0);
 
         for (int i = 0; i <= plotPoints; i++) {
-            double t = i * dt;
-            double m = PhysicsModel.M0 - PhysicsModel.Q * t;
-            double v = computeVelocity(t, terms);
-            data.add(new SimulationResult.DataPoint(t, v, m));
+            // Последняя точка — ровно T_burn: i·dt может оказаться чуть позже, где computeVelocity даёт 0
+            double t = i == plotPoints ? tBurn : i * dt;
+            double m = p.m0 - p.q * t;
+            double v = computeVelocity(p, series, t);
+            sink.add(t, v, m);
         }
+        // Четыре суммы по length членов в каждой точке
+        SolverMetrics.addSeriesTerms(4L * series.length * (plotPoints + 1));
+        probe.end(0, 0, 0);
+    }
 
-        return new SimulationResult(data, "Аналитическое (" + terms + " членов)");
+    // v(t) на участке горения как функция: коэффициенты рядов считаются один раз (эталон для сравнения методов).
+    // Последний узел решателя с постоянным шагом из-за накопленного округления может оказаться чуть позже
+    // T_burn (21.53846153846164 против 21.53846153846154 при 500 шагах), поэтому t прижимается к T_burn
+    public static DoubleUnaryOperator velocity(VehicleParameters p, int terms) {
+        requireApplicable(p);
+        double tau0 = tau(p, p.m0);
+        Series series = new Series(p.getNu(), terms, tau0 * tau0);
+        double tBurn = p.getBurnTime();
+        return t -> computeVelocity(p, series, Math.min(t, tBurn));
     }
 
-    private static double computeVelocity(double t, int maxTerms) {
-        if (t > PhysicsModel.getBurnTime()) return 0;
-        double tau = (2.0 / PhysicsModel.Q) * Math.sqrt(PhysicsModel.BETA * PhysicsModel.MU * (PhysicsModel.M0 - PhysicsModel.Q * t) * PhysicsModel.G);
-        double y1 = computeY1(tau, maxTerms);
-        double y2 = computeY2(tau, maxTerms);
-        double y1p = computeY1Prime(tau, maxTerms);
-        double y2p = computeY2Prime(tau, maxTerms);
-        double numerator = C * y1p + y2p;
-        double denominator = C * y1 + y2;
-        return - (PhysicsModel.Q * tau / (2 * PhysicsModel.BETA)) * (numerator / denominator);
+    // Заезд целиком: горение через функции Бесселя, накат и торможение — в замкнутом виде
+    // (при постоянной массе dv/dt = −a − b·v² интегрируется через тангенс).
+    // Путь на горении в квадратурах не выражается: он накапливается формулой трапеций
+    // с поправкой по производным, x += h/2·(v0 + v1) + h²/12·(v0' − v1'), четвёртого порядка.
+    public static SimulationResult solveMission(MissionProfile profile, int terms, int plotPoints) {
+        VehicleParameters p = profile.params;
+        requireApplicable(p);
+        SolverMetrics.Probe probe = SolverMetrics.begin(SolverMetrics.Phase.ANALYTICAL);
+        double tBurn = p.getBurnTime();
+        double dt = tBurn / plotPoints;
+        double tau0 = tau(p, p.m0);
+        Series series = new Series(p.getNu(), terms, tau0 * tau0);
+        Trajectory trajectory = new Trajectory(plotPoints + (int) Math.ceil(profile.coastDuration / dt) + 1);
+        List<SimulationEvent> events = new ArrayList<>();
+
+        double t = 0, v = 0, m = p.m0, x = 0;
+        trajectory.add(t, v, m, x);
+        for (int i = 1; i <= plotPoints; i++) {
+            double t1 = i == plotPoints ? tBurn : i * dt;
+            double m1 = p.m0 - p.q * t1;
+            double v1 = computeVelocity(p, series, t1);
+            if (v < PhysicsModel.RECORD_VELOCITY && v1 >= PhysicsModel.RECORD_VELOCITY) {
+                double t0 = t, v0 = v, x0 = x;
+                double tr = RootFinder.brent(s -> computeVelocity(p, series, s) - PhysicsModel.RECORD_VELOCITY,
+                        t0, t1, v0 - PhysicsModel.RECORD_VELOCITY, v1 - PhysicsModel.RECORD_VELOCITY, 1e-12);
+                double mr = p.m0 - p.q * tr;
+                double vr = computeVelocity(p, series, tr);
+                events.add(new SimulationEvent("Рекорд 1000 миль/ч", tr, vr, mr,
+                        x0 + burnDistance(p, tr - t0, v0, p.m0 - p.q * t0, vr, mr)));
+            }
+            x += burnDistance(p, t1 - t, v, m, v1, m1);
+            t = t1;
+            v = v1;
+            m = m1;
+            trajectory.add(t, v, m, x);
+        }
+        events.add(new SimulationEvent("Выгорание топлива", t, v, m, x));
+
+        // Накат: a = μg, b = β/M_FINAL; торможение: добавляются тормоза и парашют
+        Deceleration coast = new Deceleration(p.getFrictionAcceleration(), p.beta / m);
+        Deceleration braking = new Deceleration(p.getFrictionAcceleration() + profile.brakeDeceleration,
+                (p.beta + profile.brakeDrag) / m);
+        boolean stopped = v <= 0;
+        if (!stopped && profile.coastDuration > 0) {
+            stopped = decelerate(trajectory, coast, t, v, m, x, profile.getBrakeStart(), dt);
+            t = trajectory.getTime(trajectory.size() - 1);
+            v = trajectory.getVelocity(trajectory.size() - 1);
+            x = trajectory.getDistance(trajectory.size() - 1);
+        }
+        if (!stopped) {
+            events.add(new SimulationEvent("Начало торможения", t, v, m, x));
+            stopped = decelerate(trajectory, braking, t, v, m, x, profile.maxTime, dt);
+        }
+        if (stopped) {
+            int last = trajectory.size() - 1;
+            events.add(new SimulationEvent("Остановка", trajectory.getTime(last), 0, m, trajectory.getDistance(last)));
+        }
+        SolverMetrics.addSeriesTerms(4L * series.length * (plotPoints + 1));
+        probe.end(0, 0, 0);
+        return new SimulationResult(trajectory, "Аналитическое (" + terms + " членов, горение, накат, торможение)",
+                SolverStats.NONE, events, trajectory.getMaxVelocity(), trajectory.getTimeOfMaxVelocity());
     }
 
-    // Реализация функций Бесселя через ряды (см. фото 3)
-    private static double computeY1(double x, int maxTerms) {
-        return Math.pow(x, NU) * seriesSum(x, maxTerms, j -> j + NU);
+    private static double burnDistance(VehicleParameters p, double h, double v0, double m0, double v1, double m1) {
+        double a0 = PhysicsModel.dvdt(p, v0, m0);
+        double a1 = PhysicsModel.dvdt(p, v1, m1);
+        return h / 2 * (v0 + v1) + h * h / 12 * (a0 - a1);
     }
-    private static double computeY2(double x, int maxTerms) {
-        return Math.pow(x, -NU) * seriesSum(x, maxTerms, j -> j - NU);
+
+    // Точки фазы с постоянной массой от (t0, v0, x0) до tEnd с шагом dt; true — остановка раньше tEnd
+    private static boolean decelerate(Trajectory trajectory, Deceleration phase, double t0, double v0,
+                                      double m, double x0, double tEnd, double dt) {
+        double stop = t0 + phase.stopTime(v0);
+        boolean stopped = stop <= tEnd;
+        double end = stopped ? stop : tEnd;
+        int n = Math.max(1, (int) Math.ceil((end - t0) / dt));
+        for (int i = 1; i <= n; i++) {
+            double s = i == n ? end - t0 : i * (end - t0) / n;
+            double v = i == n && stopped ? 0 : phase.velocity(v0, s);
+            trajectory.add(t0 + s, v, m, x0 + phase.distance(v0, s));
+        }
+        return stopped;
     }
-    private static double computeY1Prime(double x, int maxTerms) {
-        return Math.pow(x, NU - 1) * seriesSum(x, maxTerms, j -> j + NU, k -> 2*k + NU);
+
+    // dv/dt = −a − b·v² при a, b ≥ 0. При a, b > 0: v(s) = r·tg(φ0 − k·s), r = √(a/b), k = √(ab),
+    // φ0 = arctg(v0/r); x(s) = ln(cos(φ0 − k·s)/cos φ0)/b.
+    static final class Deceleration {
+        final double a, b;
+
+        Deceleration(double a, double b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        // Время до остановки; бесконечность, если без трения скорость только асимптотически стремится к нулю
+        double stopTime(double v0) {
+            if (a == 0) return Double.POSITIVE_INFINITY;
+            if (b == 0) return v0 / a;
+            return Math.atan(v0 * Math.sqrt(b / a)) / Math.sqrt(a * b);
+        }
+
+        double velocity(double v0, double s) {
+            if (a == 0) return b == 0 ? v0 : v0 / (1 + b * v0 * s);
+            if (b == 0) return v0 - a * s;
+            double r = Math.sqrt(a / b);
+            return r * Math.tan(Math.atan(v0 / r) - Math.sqrt(a * b) * s);
+        }
+
+        double distance(double v0, double s) {
+            if (a == 0) return b == 0 ? v0 * s : Math.log1p(b * v0 * s) / b;
+            if (b == 0) return v0 * s - a * s * s / 2;
+            double phi0 = Math.atan(v0 * Math.sqrt(b / a));
+            return Math.log(Math.cos(phi0 - Math.sqrt(a * b) * s) / Math.cos(phi0)) / b;
+        }
     }
-    private static double computeY2Prime(double x, int maxTerms) {
-        return Math.pow(x, -NU - 1) * seriesSum(x, maxTerms, j -> j - NU, k -> 2*k - NU);
+
+    private static double computeVelocity(VehicleParameters p, Series series, double t) {
+        if (t > p.getBurnTime()) return 0;
+        double c = p.getAnalyticalConstant();
+        double tau = tau(p, p.m0 - p.q * t);
+        double x2 = tau * tau;
+
+        // Функции Бесселя и их производные через ряды (см. фото 3):
+        // y1 = x^ν·S1(x²), y1' = x^(ν−1)·S1'(x²), y2 = x^(−ν)·S2(x²), y2' = x^(−ν−1)·S2'(x²).
+        // Все четыре суммы вычисляются за один проход схемы Горнера.
+        double s1 = 0, d1 = 0, s2 = 0, d2 = 0;
+        for (int k = series.length - 1; k >= 0; k--) {
+            s1 = s1 * x2 + series.a1[k];
+            d1 = d1 * x2 + series.b1[k];
+            s2 = s2 * x2 + series.a2[k];
+            d2 = d2 * x2 + series.b2[k];
+        }
+        double xPlus = Math.pow(tau, series.nu);
+        double xMinus = 1 / xPlus;
+        double y1 = xPlus * s1;
+        double y2 = xMinus * s2;
+        double y1p = xPlus * d1 / tau;
+        double y2p = xMinus * d2 / tau;
+
+        double numerator = c * y1p + y2p;
+        double denominator = c * y1 + y2;
+        return - (p.q * tau / (2 * p.beta)) * (numerator / denominator);
+    }
+
+    // Решение через функции Бесселя выведено для dv/dt = QU/m − βv²/m − μg при β·μ·g > 0 (аргумент
+    // τ = (2/Q)·√(β·μ·m·g) при нулевом трении обращается в ноль) и нецелом ν. null — решение применимо
+    public static String unavailableReason(VehicleParameters p) {
+        if (!p.isStandardModel()) {
+            return "Аналитическое решение есть только для стандартной модели сил, задана: " + p.getForceModel();
+        }
+        if (!(p.beta * p.mu * p.g > 0)) {
+            return "Аналитическое решение требует трения: MU·G должно быть больше нуля, задано MU=" + p.mu
+                    + ", G=" + p.g;
+        }
+        double nu = p.getNu();
+        if (Math.abs(nu - Math.rint(nu)) < INTEGER_NU_EPSILON) {
+            return "Аналитическое решение через J_ν и J_−ν не определено при целом ν = 2·√(BETA·U/Q) = " + nu;
+        }
+        return null;
     }
 
-    private static double seriesSum(double x, int maxTerms, java.util.function.IntToDoubleFunction prodFunc) {
-        return seriesSum(x, maxTerms, prodFunc, k -> 1.0);
+    public static boolean isApplicable(VehicleParameters p) {
+        return unavailableReason(p) == null;
     }
-    private static double seriesSum(double x, int maxTerms, java.util.function.IntToDoubleFunction prodFunc, java.util.function.IntToDoubleFunction coeffFunc) {
-        double sum = 0.0;
-        for (int k = 0; k <= maxTerms; k++) {
-            double term = Math.pow(-1, k) * Math.pow(x, 2 * k) * coeffFunc.applyAsDouble(k);
-            term /= Math.pow(4, k) * factorial(k);
-            for (int j = 1; j <= k; j++) {
-                term /= prodFunc.applyAsDouble(j);
-            }
-            sum += term;
+
+    private static void requireApplicable(VehicleParameters p) {
+        String reason = unavailableReason(p);
+        if (reason != null) {
+            throw new IllegalArgumentException(reason);
         }
-        return sum;
     }
 
-    private static long factorial(int n) {
-        long f = 1;
-        for (int i = 2; i <= n; i++) f *= i;
-        return f;
+    private static double tau(VehicleParameters p, double m) {
+        return (2.0 / p.q) * Math.sqrt(p.beta * p.mu * m * p.g);
+    }
+
+    // Коэффициенты рядов по степеням x² для порядков +ν (y1) и −ν (y2).
+    // a_k = (−1)^k / (4^k·k!·∏(j±ν)) считаются рекуррентно: a_k = −a_(k−1) / (4k·(k±ν)),
+    // без факториалов и степеней; b_k = a_k·(2k±ν) — коэффициенты производной.
+    // Хвост, который при x² ≤ x2Max меньше машинной точности, отбрасывается: иначе при 100 членах
+    // коэффициенты уходят в денормализованные числа и резко замедляют арифметику.
+    static final class Series {
+        private static final double NEGLIGIBLE = 0x1p-60;
+
+        final double nu;
+        final int length;
+        final double[] a1, b1, a2, b2;
+
+        Series(double nu, int terms, double x2Max) {
+            if (terms < 0) {
+                throw new IllegalArgumentException("Число членов ряда не может быть отрицательным: " + terms);
+            }
+            this.nu = nu;
+            a1 = new double[terms + 1];
+            b1 = new double[terms + 1];
+            a2 = new double[terms + 1];
+            b2 = new double[terms + 1];
+            a1[0] = 1.0;
+            a2[0] = 1.0;
+            for (int k = 1; k <= terms; k++) {
+                a1[k] = -a1[k - 1] / (4.0 * k * (k + nu));
+                a2[k] = -a2[k - 1] / (4.0 * k * (k - nu));
+            }
+            for (int k = 0; k <= terms; k++) {
+                b1[k] = a1[k] * (2 * k + nu);
+                b2[k] = a2[k] * (2 * k - nu);
+            }
+
+            int n = terms + 1;
+            double scale = 1.0;
+            for (int k = 1; k <= terms; k++) {
+                scale *= x2Max;
+                double magnitude = Math.max(Math.max(Math.abs(b1[k]), Math.abs(b2[k])),
+                        Math.max(Math.abs(a1[k]), Math.abs(a2[k]))) * scale;
+                if (magnitude < NEGLIGIBLE) {
+                    n = k;
+                    break;
+                }
+            }
+            this.length = n;
+        }
+
+        double horner(double[] coeffs, double x2) {
+            double sum = 0;
+            for (int k = length - 1; k >= 0; k--) {
+                sum = sum * x2 + coeffs[k];
+            }
+            return sum;
+        }
     }
-}
\ No newline at end of file
+}
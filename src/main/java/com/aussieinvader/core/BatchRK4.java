@@ -0,0 +1,39 @@
+// src/main/java/com/aussieinvader/core/BatchRK4.java
+package com.aussieinvader.core;
+
+// Пакетный RK4: продвигает все дорожки BatchState синхронно на steps шагов до конца горения.
+// Реализация на jdk.incubator.vector выбирается, если модуль подключён (--add-modules jdk.incubator.vector),
+// иначе используется скалярная. Отключить векторную версию: -Daussieinvader.vector=false
+public abstract class BatchRK4 {
+
+    private static final BatchRK4 DEFAULT = create();
+
+    public static BatchRK4 getDefault() {
+        return DEFAULT;
+    }
+
+    public static BatchRK4 scalar() {
+        return new ScalarBatchRK4();
+    }
+
+    private static BatchRK4 create() {
+        boolean enabled = Boolean.parseBoolean(System.getProperty("aussieinvader.vector", "true"));
+        if (enabled && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Через рефлексию, чтобы без модуля класс VectorBatchRK4 даже не загружался
+                return (BatchRK4) Class.forName("com.aussieinvader.core.VectorBatchRK4")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Остаёмся на скалярной реализации
+            }
+        }
+        return new ScalarBatchRK4();
+    }
+
+    public abstract String getName();
+
+    // Число дорожек, обрабатываемых одной инструкцией
+    public abstract int getLaneCount();
+
+    public abstract void integrate(BatchState state, int steps);
+}
@@ -0,0 +1,61 @@
+// src/main/java/com/aussieinvader/core/BatchState.java
+package com.aussieinvader.core;
+
+// Состояние пакета независимых траекторий в виде примитивных массивов (по одной "дорожке" на набор параметров).
+// Все дорожки делают одинаковое число шагов, но шаг dt у каждой свой — время горения зависит от параметров.
+public class BatchState {
+    final int size;
+
+    // Параметры модели, развёрнутые по дорожкам
+    final double[] thrust;    // Q·U
+    final double[] beta;
+    final double[] friction;  // μ·g
+    final double[] q;
+    final double[] dt;
+
+    // Состояние и итоги
+    final double[] velocity;
+    final double[] mass;
+    final double[] maxVelocity;
+    final double[] timeOfMaxVelocity;
+
+    private final VehicleParameters[] params;
+
+    public BatchState(VehicleParameters[] params, int steps) {
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Число шагов должно быть положительным: " + steps);
+        }
+        this.params = params.clone();
+        this.size = params.length;
+        thrust = new double[size];
+        beta = new double[size];
+        friction = new double[size];
+        q = new double[size];
+        dt = new double[size];
+        velocity = new double[size];
+        mass = new double[size];
+        maxVelocity = new double[size];
+        timeOfMaxVelocity = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            VehicleParameters p = params[i];
+            if (!p.isStandardModel()) {
+                throw new IllegalArgumentException("Пакетный RK4 развёрнут только для стандартной модели сил: "
+                        + p.getForceModel());
+            }
+            thrust[i] = p.getThrustForce();
+            beta[i] = p.beta;
+            friction[i] = p.getFrictionAcceleration();
+            q[i] = p.q;
+            dt[i] = p.getBurnTime() / steps;
+            mass[i] = p.m0;
+        }
+    }
+
+    public int size() { return size; }
+    public VehicleParameters getParams(int i) { return params[i]; }
+    public double getVelocity(int i) { return velocity[i]; }
+    public double getMass(int i) { return mass[i]; }
+    public double getMaxVelocity(int i) { return maxVelocity[i]; }
+    public double getTimeOfMaxVelocity(int i) { return timeOfMaxVelocity[i]; }
+}
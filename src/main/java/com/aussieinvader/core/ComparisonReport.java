@@ -0,0 +1,74 @@
+// src/main/java/com/aussieinvader/core/ComparisonReport.java
+package com.aussieinvader.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class ComparisonReport {
+    private final VehicleParameters params;
+    private final double referenceMaxVelocity;
+    private final List<Row> rows;
+    private final long elapsedNanos;
+
+    ComparisonReport(VehicleParameters params, double referenceMaxVelocity, List<Row> rows, long elapsedNanos) {
+        this.params = params;
+        this.referenceMaxVelocity = referenceMaxVelocity;
+        this.rows = Collections.unmodifiableList(rows);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public VehicleParameters getParams() { return params; }
+    public double getReferenceMaxVelocity() { return referenceMaxVelocity; }
+    public List<Row> getRows() { return rows; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Самый быстрый метод с погрешностью vmax не больше tolerance; null, если таких нет
+    public Row fastestWithin(double tolerance) {
+        Row best = null;
+        for (Row row : rows) {
+            if (row.maxVelocityError <= tolerance && (best == null || row.wallNanos < best.wallNanos)) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Сравнение методов (эталон vmax = %.9f м/с)%n", referenceMaxVelocity));
+        sb.append(String.format(Locale.ROOT, "%-40s %10s %12s %8s %18s %12s %12s%n",
+                "метод", "время, мс", "dv/dt", "шаги", "vmax, м/с", "Δvmax", "max|Δv|"));
+        for (Row row : rows) {
+            sb.append(String.format(Locale.ROOT, "%-40s %10.3f %12d %8d %18.9f %12.3e %12.3e%n",
+                    row.getMethodName(), row.wallNanos / 1e6, row.result.getStats().evaluations,
+                    row.result.getStats().acceptedSteps, row.result.getMaxVelocity(),
+                    row.maxVelocityError, row.maxError));
+        }
+        return sb.toString();
+    }
+
+    public static class Row {
+        public final SimulationResult result;
+        public final long wallNanos;
+        // |vmax − vmax эталона|
+        public final double maxVelocityError;
+        // max |v(t) − v_эталон(t)| по узлам метода
+        public final double maxError;
+        private final double[] error;
+
+        Row(SimulationResult result, long wallNanos, double maxVelocityError, double maxError, double[] error) {
+            this.result = result;
+            this.wallNanos = wallNanos;
+            this.maxVelocityError = maxVelocityError;
+            this.maxError = maxError;
+            this.error = error;
+        }
+
+        public String getMethodName() { return result.getMethodName(); }
+
+        // v − v_эталон в i-й точке результата
+        public double getError(int i) { return error[i]; }
+    }
+}
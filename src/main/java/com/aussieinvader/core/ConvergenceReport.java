@@ -0,0 +1,78 @@
+// src/main/java/com/aussieinvader/core/ConvergenceReport.java
+package com.aussieinvader.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class ConvergenceReport {
+    private final String method;
+    private final double tolerance;
+    private final ConvergenceStudy.Reference reference;
+    private final double analyticalMaxVelocity;
+    private final List<Level> levels;
+    private final Level selected;
+    private final long elapsedNanos;
+
+    ConvergenceReport(String method, double tolerance, ConvergenceStudy.Reference reference,
+                      double analyticalMaxVelocity, List<Level> levels, Level selected, long elapsedNanos) {
+        this.method = method;
+        this.tolerance = tolerance;
+        this.reference = reference;
+        this.analyticalMaxVelocity = analyticalMaxVelocity;
+        this.levels = Collections.unmodifiableList(levels);
+        this.selected = selected;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getMethod() { return method; }
+    public double getTolerance() { return tolerance; }
+    public ConvergenceStudy.Reference getReference() { return reference; }
+    public double getAnalyticalMaxVelocity() { return analyticalMaxVelocity; }
+    public List<Level> getLevels() { return levels; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Самый дешёвый уровень, удовлетворивший допуску; null, если допуск не достигнут
+    public Level getSelected() { return selected; }
+    public boolean isConverged() { return selected != null; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Сходимость %s (эталон: %s, допуск %.3g м/с)%n",
+                method, reference, tolerance));
+        sb.append(String.format(Locale.ROOT, "%10s %20s %12s %8s%n", "шаги", "vmax, м/с", "погрешность", "порядок"));
+        for (Level level : levels) {
+            sb.append(String.format(Locale.ROOT, "%10d %20.12f %12.3e %8.3f%n",
+                    level.steps, level.maxVelocity, level.error, level.observedOrder));
+        }
+        if (selected != null) {
+            sb.append("Выбрано шагов: ").append(selected.steps).append('\n');
+        } else {
+            sb.append("Допуск не достигнут за ").append(levels.size()).append(" уровней\n");
+        }
+        return sb.toString();
+    }
+
+    public static class Level {
+        public final int steps;
+        public final double maxVelocity;
+        // Оценка погрешности vmax (NaN на первом уровне при экстраполяции Ричардсона)
+        public final double error;
+        // Наблюдаемый порядок по трём последним уровням (NaN для первых двух)
+        public final double observedOrder;
+        // Экстраполированное по Ричардсону значение (NaN при аналитическом эталоне)
+        public final double extrapolated;
+        public final long elapsedNanos;
+
+        Level(int steps, double maxVelocity, double error, double observedOrder, double extrapolated,
+              long elapsedNanos) {
+            this.steps = steps;
+            this.maxVelocity = maxVelocity;
+            this.error = error;
+            this.observedOrder = observedOrder;
+            this.extrapolated = extrapolated;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+// src/main/java/com/aussieinvader/core/ConvergenceStudy.java
+package com.aussieinvader.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Исследование сходимости по максимальной скорости: число шагов удваивается (base·2^k),
+// порядок оценивается по трём соседним уровням. Останавливаемся на первом уровне, где оценка
+// погрешности не превышает допуск. Параллельно считается не больше LOOKAHEAD уровней подряд: следующий
+// уровень вдвое дороже предыдущего, поэтому забегать дальше — значит считать заведомо лишнее, а
+// несостоявшиеся уровни после успеха отменяются.
+public class ConvergenceStudy {
+
+    // С чем сравнивается максимальная скорость
+    public enum Reference {
+        // Аналитическое решение (ряд из ANALYTICAL_TERMS членов на ANALYTICAL_POINTS точках)
+        ANALYTICAL,
+        // Экстраполяция Ричардсона по двум соседним уровням, без внешнего эталона
+        RICHARDSON
+    }
+
+    private static final int ANALYTICAL_TERMS = 50;
+    private static final int ANALYTICAL_POINTS = 2000;
+    // Текущий уровень и следующий — Ричардсону нужны оба
+    private static final int LOOKAHEAD = 2;
+
+    private final ForkJoinPool pool;
+
+    public ConvergenceStudy() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ConvergenceStudy(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // method — "euler" или "rk4"
+    public ConvergenceReport run(VehicleParameters p, String method, int baseSteps, int maxLevels,
+                                 double tolerance, Reference reference) {
+        int order = theoreticalOrder(method);
+        if (baseSteps <= 0 || maxLevels <= 0) {
+            throw new IllegalArgumentException("baseSteps и maxLevels должны быть положительными");
+        }
+        if ((long) baseSteps << (maxLevels - 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком много уровней: " + maxLevels);
+        }
+
+        double analyticalMax = Double.NaN;
+        if (reference == Reference.ANALYTICAL) {
+            MaxTracker tracker = new MaxTracker();
+            AnalyticalSolver.solve(p, ANALYTICAL_TERMS, ANALYTICAL_POINTS, tracker);
+            analyticalMax = tracker.getMaxVelocity();
+        }
+
+        List<ConvergenceReport.Level> levels = new ArrayList<>();
+        long start = System.nanoTime();
+
+        ArrayDeque<Future<double[]>> pending = new ArrayDeque<>();
+        int submitted = 0;
+        try {
+            while (levels.size() < maxLevels) {
+                while (submitted < maxLevels && pending.size() < LOOKAHEAD) {
+                    int steps = baseSteps << submitted++;
+                    pending.addLast(pool.submit(() -> solveLevel(p, method, steps)));
+                }
+                double[] r = join(pending.removeFirst());
+                int k = levels.size();
+                int steps = baseSteps << k;
+                double maxV = r[0];
+
+                double observedOrder = Double.NaN;
+                if (k >= 2) {
+                    double d1 = levels.get(k - 2).maxVelocity - levels.get(k - 1).maxVelocity;
+                    double d2 = levels.get(k - 1).maxVelocity - maxV;
+                    observedOrder = Math.log(Math.abs(d1 / d2)) / Math.log(2);
+                }
+
+                double error, extrapolated = Double.NaN;
+                if (reference == Reference.ANALYTICAL) {
+                    error = Math.abs(maxV - analyticalMax);
+                } else if (k >= 1) {
+                    // Ричардсон: A* ≈ A_k + (A_k − A_(k−1)) / (2^p − 1)
+                    double diff = maxV - levels.get(k - 1).maxVelocity;
+                    double factor = (1 << order) - 1;
+                    extrapolated = maxV + diff / factor;
+                    error = Math.abs(diff) / factor;
+                } else {
+                    error = Double.NaN;
+                }
+
+                ConvergenceReport.Level level =
+                        new ConvergenceReport.Level(steps, maxV, error, observedOrder, extrapolated, (long) r[1]);
+                levels.add(level);
+                if (error <= tolerance) {
+                    return new ConvergenceReport(method, tolerance, reference, analyticalMax, levels, level,
+                            System.nanoTime() - start);
+                }
+            }
+        } finally {
+            // Уровни, забежавшие вперёд, больше не нужны; уже начатые досчитаются в пуле, но результат не ждём
+            for (Future<double[]> future : pending) {
+                future.cancel(true);
+            }
+        }
+        return new ConvergenceReport(method, tolerance, reference, analyticalMax, levels, null,
+                System.nanoTime() - start);
+    }
+
+    private static double[] solveLevel(VehicleParameters p, String method, int steps) {
+        long start = System.nanoTime();
+        MaxTracker tracker = new MaxTracker();
+        if ("euler".equals(method)) {
+            NumericalSolver.solveEuler(p, steps, tracker);
+        } else {
+            NumericalSolver.solveRK4(p, steps, tracker);
+        }
+        return new double[]{tracker.getMaxVelocity(), System.nanoTime() - start};
+    }
+
+    static int theoreticalOrder(String method) {
+        switch (method) {
+            case "euler": return 1;
+            case "rk4": return 4;
+            default: throw new IllegalArgumentException("Исследование сходимости поддерживает euler и rk4: " + method);
+        }
+    }
+
+    private static double[] join(Future<double[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Исследование сходимости прервано", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка при решении уровня", e.getCause());
+        }
+    }
+}
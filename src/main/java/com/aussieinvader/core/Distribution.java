@@ -0,0 +1,53 @@
+// src/main/java/com/aussieinvader/core/Distribution.java
+package com.aussieinvader.core;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// Распределение неопределённого параметра для MonteCarloStudy.
+// Генератор передаётся снаружи: у каждой задачи свой SplittableRandom, общего состояния нет.
+@FunctionalInterface
+public interface Distribution {
+    double sample(SplittableRandom rng);
+
+    static Distribution fixed(double value) {
+        return new Distribution() {
+            @Override public double sample(SplittableRandom rng) { return value; }
+            @Override public String toString() { return String.format(Locale.ROOT, "%g", value); }
+        };
+    }
+
+    static Distribution uniform(double low, double high) {
+        if (!(low < high)) {
+            throw new IllegalArgumentException("Пустой интервал равномерного распределения: [" + low + ", " + high + ")");
+        }
+        return new Distribution() {
+            @Override public double sample(SplittableRandom rng) { return rng.nextDouble(low, high); }
+            @Override public String toString() { return String.format(Locale.ROOT, "U[%g, %g)", low, high); }
+        };
+    }
+
+    // Нормальное, усечённое до положительных значений: отрицательные параметры модели не имеют смысла
+    static Distribution normal(double mean, double sd) {
+        if (!(mean > 0) || !(sd >= 0)) {
+            throw new IllegalArgumentException("Нужны mean > 0 и sd ≥ 0: mean=" + mean + ", sd=" + sd);
+        }
+        return new Distribution() {
+            @Override
+            public double sample(SplittableRandom rng) {
+                double x;
+                do {
+                    x = mean + sd * rng.nextGaussian();
+                } while (x <= 0);
+                return x;
+            }
+
+            @Override public String toString() { return String.format(Locale.ROOT, "N(%g, %g)", mean, sd); }
+        };
+    }
+
+    // Нормальное с относительным стандартным отклонением: σ = spread·mean; нулевое значение остаётся нулём
+    static Distribution relative(double mean, double spread) {
+        return mean == 0 ? fixed(0) : normal(mean, spread * mean);
+    }
+}
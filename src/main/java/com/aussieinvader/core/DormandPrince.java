@@ -0,0 +1,142 @@
+// src/main/java/com/aussieinvader/core/DormandPrince.java
+package com.aussieinvader.core;
+
+// Вложенная пара Рунге-Кутты Дорманда-Принса 5(4) с FSAL, управлением шагом
+// и плотной выдачей 4-го порядка (коэффициенты по Хайреру, DOPRI5).
+// Масса меняется линейно (dm/dt = -Q) и интегрируется точно, поэтому погрешность оценивается только по v.
+final class DormandPrince {
+
+    private static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561,
+            A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247,
+            A64 = 49.0 / 176, A65 = -5103.0 / 18656;
+    private static final double A71 = 35.0 / 384, A73 = 500.0 / 1113, A74 = 125.0 / 192,
+            A75 = -2187.0 / 6784, A76 = 11.0 / 84;
+
+    // Разность весов решений 5-го и 4-го порядка
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920,
+            E5 = -17253.0 / 339200, E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    // Коэффициенты плотной выдачи
+    private static final double D1 = -12715105075.0 / 11282082432.0, D3 = 87487479700.0 / 32700410799.0,
+            D4 = -10690763975.0 / 1880347072.0, D5 = 701980252875.0 / 199316789632.0,
+            D6 = -1453857185.0 / 822651844.0, D7 = 69997945.0 / 29380423.0;
+
+    private static final double SAFETY = 0.9;
+    private static final double MIN_FACTOR = 0.2;
+    private static final double MAX_FACTOR = 10.0;
+    private static final int MAX_STEPS = 1_000_000;
+
+    private DormandPrince() {
+    }
+
+    // outputPoints <= 0 — записываются только принятые шаги,
+    // иначе траектория выдаётся на равномерной сетке через плотную выдачу
+    static SolverStats integrate(VehicleParameters p, double absTol, double relTol, int outputPoints, TrajectorySink out) {
+        if (!(absTol > 0) || !(relTol >= 0)) {
+            throw new IllegalArgumentException("Недопустимые допуски: absTol=" + absTol + ", relTol=" + relTol);
+        }
+        SolverMetrics.Probe probe = SolverMetrics.begin(SolverMetrics.Phase.ADAPTIVE);
+        double tEnd = p.getBurnTime();
+        double q = p.q;
+
+        double t = 0.0, v = 0.0, m = p.m0;
+        double k1 = PhysicsModel.dvdt(p, v, m);
+        long evaluations = 1;
+
+        double h = initialStep(p, v, m, k1, tEnd, absTol, relTol);
+        evaluations++;
+
+        double outDt = outputPoints > 0 ? tEnd / outputPoints : 0;
+        int nextOut = 1;
+        out.add(t, v, m);
+
+        int accepted = 0, rejected = 0;
+        boolean lastRejected = false;
+
+        while (t < tEnd) {
+            if (accepted + rejected >= MAX_STEPS) {
+                throw new IllegalStateException("Превышено число шагов " + MAX_STEPS + " при t = " + t);
+            }
+            boolean last = t + h >= tEnd;
+            if (last) {
+                h = tEnd - t;
+            }
+
+            double k2 = PhysicsModel.dvdt(p, v + h * A21 * k1, m - q * C2 * h);
+            double k3 = PhysicsModel.dvdt(p, v + h * (A31 * k1 + A32 * k2), m - q * C3 * h);
+            double k4 = PhysicsModel.dvdt(p, v + h * (A41 * k1 + A42 * k2 + A43 * k3), m - q * C4 * h);
+            double k5 = PhysicsModel.dvdt(p, v + h * (A51 * k1 + A52 * k2 + A53 * k3 + A54 * k4), m - q * C5 * h);
+            double k6 = PhysicsModel.dvdt(p, v + h * (A61 * k1 + A62 * k2 + A63 * k3 + A64 * k4 + A65 * k5), m - q * h);
+            double vNew = v + h * (A71 * k1 + A73 * k3 + A74 * k4 + A75 * k5 + A76 * k6);
+            double mNew = m - q * h;
+            // FSAL: последняя стадия совпадает с первой стадией следующего шага
+            double k7 = PhysicsModel.dvdt(p, vNew, mNew);
+            evaluations += 6;
+
+            double errV = h * (E1 * k1 + E3 * k3 + E4 * k4 + E5 * k5 + E6 * k6 + E7 * k7);
+            double scale = absTol + relTol * Math.max(Math.abs(v), Math.abs(vNew));
+            double err = Math.abs(errV) / scale;
+
+            if (err <= 1.0) {
+                double tNew = last ? tEnd : t + h;
+                if (outputPoints > 0) {
+                    // Плотная выдача на отрезке [t, tNew]
+                    double diff = vNew - v;
+                    double bspl = h * k1 - diff;
+                    double r4 = diff - h * k7 - bspl;
+                    double r5 = h * (D1 * k1 + D3 * k3 + D4 * k4 + D5 * k5 + D6 * k6 + D7 * k7);
+                    while (nextOut <= outputPoints && (last || nextOut * outDt <= tNew)) {
+                        double tOut = nextOut == outputPoints ? tEnd : nextOut * outDt;
+                        double theta = (tOut - t) / h;
+                        double theta1 = 1 - theta;
+                        double vOut = v + theta * (diff + theta1 * (bspl + theta * (r4 + theta1 * r5)));
+                        out.add(tOut, vOut, p.m0 - q * tOut);
+                        nextOut++;
+                    }
+                } else {
+                    out.add(tNew, vNew, mNew);
+                }
+                t = tNew;
+                v = vNew;
+                m = mNew;
+                k1 = k7;
+                accepted++;
+
+                double factor = err == 0 ? MAX_FACTOR
+                        : Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, SAFETY * Math.pow(err, -0.2)));
+                // После отказа шаг не увеличиваем
+                h *= lastRejected ? Math.min(1.0, factor) : factor;
+                lastRejected = false;
+            } else {
+                h *= Math.max(MIN_FACTOR, SAFETY * Math.pow(err, -0.2));
+                rejected++;
+                lastRejected = true;
+            }
+        }
+
+        SolverStats stats = new SolverStats(accepted, rejected, evaluations);
+        probe.end(stats);
+        return stats;
+    }
+
+    // Начальный шаг по Хайреру–Нёрсетту–Ваннеру (одно дополнительное вычисление dv/dt)
+    private static double initialStep(VehicleParameters p, double v, double m, double f0, double tEnd, double absTol, double relTol) {
+        double scale = absTol + relTol * Math.abs(v);
+        double d0 = Math.abs(v) / scale;
+        double d1 = Math.abs(f0) / scale;
+        double h0 = (d0 < 1e-5 || d1 < 1e-5) ? 1e-6 : 0.01 * d0 / d1;
+        h0 = Math.min(h0, tEnd);
+
+        double f1 = PhysicsModel.dvdt(p, v + h0 * f0, m - p.q * h0);
+        double d2 = Math.abs(f1 - f0) / scale / h0;
+        double dMax = Math.max(d1, d2);
+        double h1 = dMax <= 1e-15 ? Math.max(1e-6, h0 * 1e-3) : Math.pow(0.01 / dMax, 0.2);
+        return Math.min(Math.min(100 * h0, h1), tEnd);
+    }
+}
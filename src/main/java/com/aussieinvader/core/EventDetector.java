@@ -0,0 +1,142 @@
+// src/main/java/com/aussieinvader/core/EventDetector.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+// Поиск событий по ходу интегрирования. Между соседними точками решение восстанавливается
+// кубическим эрмитовым сплайном по v и dv/dt на концах шага (масса линейна), а момент события
+// уточняется методом Брента — точность не ограничена шагом сетки.
+// Может работать без хранения траектории: downstream == null.
+public class EventDetector implements TrajectorySink {
+    // Точность момента события, с
+    private static final double TIME_TOLERANCE = 1e-12;
+    // Относительный порог "ноль в последней точке" — для событий ровно на конце интервала
+    private static final double END_TOLERANCE = 1e-9;
+
+    private final VehicleParameters p;
+    private final EventSpec[] specs;
+    private final TrajectorySink downstream;
+
+    private final double[] initialG;
+    private final double[] previousG;
+    private final boolean[] fired;
+    private final List<SimulationEvent> events = new ArrayList<>();
+
+    private boolean started;
+    private double t0, v0, m0, f0;
+    private double maxVelocity = Double.NEGATIVE_INFINITY;
+    private double timeOfMaxVelocity;
+    private long evaluations;
+
+    public EventDetector(VehicleParameters p, List<EventSpec> specs, TrajectorySink downstream) {
+        this.p = p;
+        this.specs = specs.toArray(new EventSpec[0]);
+        this.downstream = downstream;
+        this.initialG = new double[this.specs.length];
+        this.previousG = new double[this.specs.length];
+        this.fired = new boolean[this.specs.length];
+    }
+
+    // Максимум скорости, рекорд 1000 миль/ч и выгорание топлива
+    public static EventDetector standard(VehicleParameters p, TrajectorySink downstream) {
+        return new EventDetector(p, List.of(EventSpec.velocityPeak(), EventSpec.recordCrossing(),
+                EventSpec.burnout(p)), downstream);
+    }
+
+    @Override
+    public void add(double t, double v, double m) {
+        evaluations++;
+        addWithSlope(t, v, m, PhysicsModel.dvdt(p, v, m));
+    }
+
+    // Точка вместе с dv/dt в ней, уже посчитанной решателем (k1 следующего шага): детектор её не пересчитывает
+    public void addWithSlope(double t, double v, double m, double f) {
+        if (downstream != null) {
+            downstream.add(t, v, m);
+        }
+
+        if (!started) {
+            for (int i = 0; i < specs.length; i++) {
+                initialG[i] = previousG[i] = specs[i].getFunction().value(t, v, m, f);
+            }
+            started = true;
+        } else {
+            for (int i = 0; i < specs.length; i++) {
+                double g1 = specs[i].getFunction().value(t, v, m, f);
+                if (specs[i].accepts(previousG[i], g1)) {
+                    locate(i, previousG[i], g1, t, v, m, f);
+                }
+                previousG[i] = g1;
+            }
+        }
+
+        if (v > maxVelocity) {
+            maxVelocity = v;
+            timeOfMaxVelocity = t;
+        }
+        t0 = t;
+        v0 = v;
+        m0 = m;
+        f0 = f;
+    }
+
+    private void locate(int index, double g0, double g1, double t1, double v1, double m1, double f1) {
+        double ta = t0, va = v0, ma = m0, fa = f0;
+        double h = t1 - ta;
+        EventSpec.EventFunction function = specs[index].getFunction();
+        double[] state = new double[2];
+
+        DoubleUnaryOperator g = time -> {
+            interpolate(ta, va, ma, fa, t1, v1, m1, f1, h, time, state);
+            evaluations++;
+            return function.value(time, state[0], state[1], PhysicsModel.dvdt(p, state[0], state[1]));
+        };
+        double root = RootFinder.brent(g, ta, t1, g0, g1, TIME_TOLERANCE);
+        interpolate(ta, va, ma, fa, t1, v1, m1, f1, h, root, state);
+        record(index, root, state[0], state[1]);
+    }
+
+    private void record(int index, double t, double v, double m) {
+        events.add(new SimulationEvent(specs[index].getName(), t, v, m));
+        fired[index] = true;
+        if (v > maxVelocity) {
+            maxVelocity = v;
+            timeOfMaxVelocity = t;
+        }
+    }
+
+    // Эрмитов кубический сплайн для v, линейная интерполяция для m
+    private static void interpolate(double ta, double va, double ma, double fa,
+                                    double tb, double vb, double mb, double fb,
+                                    double h, double t, double[] out) {
+        double s = (t - ta) / h;
+        double s2 = s * s, s3 = s2 * s;
+        double h00 = 2 * s3 - 3 * s2 + 1;
+        double h10 = s3 - 2 * s2 + s;
+        double h01 = -2 * s3 + 3 * s2;
+        double h11 = s3 - s2;
+        out[0] = h00 * va + h10 * h * fa + h01 * vb + h11 * h * fb;
+        out[1] = ma + (mb - ma) * s;
+    }
+
+    // Вызывается после последней точки: события, у которых g обнулилась ровно на конце
+    // (с точностью до округления), фиксируются в последней точке
+    public void finish() {
+        if (!started) return;
+        for (int i = 0; i < specs.length; i++) {
+            if (!fired[i] && Math.abs(previousG[i]) <= END_TOLERANCE * Math.max(1.0, Math.abs(initialG[i]))) {
+                record(i, t0, v0, m0);
+            }
+        }
+        events.sort((a, b) -> Double.compare(a.time, b.time));
+    }
+
+    public List<SimulationEvent> getEvents() { return Collections.unmodifiableList(events); }
+    public double getMaxVelocity() { return started ? maxVelocity : 0; }
+    public double getTimeOfMaxVelocity() { return started ? timeOfMaxVelocity : 0; }
+    // Вычисления dv/dt, сделанные детектором сверх решателя
+    public long getEvaluations() { return evaluations; }
+}
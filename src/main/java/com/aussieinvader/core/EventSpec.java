@@ -0,0 +1,56 @@
+// src/main/java/com/aussieinvader/core/EventSpec.java
+package com.aussieinvader.core;
+
+// Событие задаётся функцией g(t, v, m, dv/dt): момент события — её ноль с нужным направлением смены знака
+public class EventSpec {
+
+    public enum Direction { RISING, FALLING, ANY }
+
+    @FunctionalInterface
+    public interface EventFunction {
+        double value(double t, double v, double m, double dvdt);
+    }
+
+    private final String name;
+    private final EventFunction function;
+    private final Direction direction;
+
+    public EventSpec(String name, EventFunction function, Direction direction) {
+        this.name = name;
+        this.function = function;
+        this.direction = direction;
+    }
+
+    // Максимум скорости: dv/dt меняет знак с + на −
+    public static EventSpec velocityPeak() {
+        return new EventSpec("Максимум скорости", (t, v, m, dvdt) -> dvdt, Direction.FALLING);
+    }
+
+    // Скорость достигает threshold
+    public static EventSpec velocityThreshold(double threshold) {
+        return new EventSpec("Скорость " + threshold + " м/с", (t, v, m, dvdt) -> v - threshold, Direction.RISING);
+    }
+
+    // Рекорд 1000 миль/ч
+    public static EventSpec recordCrossing() {
+        return new EventSpec("Рекорд 1000 миль/ч", (t, v, m, dvdt) -> v - PhysicsModel.RECORD_VELOCITY,
+                Direction.RISING);
+    }
+
+    // Масса опускается до M_FINAL
+    public static EventSpec burnout(VehicleParameters p) {
+        return new EventSpec("Выгорание топлива", (t, v, m, dvdt) -> m - p.mFinal, Direction.FALLING);
+    }
+
+    public String getName() { return name; }
+    public EventFunction getFunction() { return function; }
+    public Direction getDirection() { return direction; }
+
+    boolean accepts(double g0, double g1) {
+        switch (direction) {
+            case RISING: return g0 < 0 && g1 >= 0;
+            case FALLING: return g0 > 0 && g1 <= 0;
+            default: return (g0 < 0 && g1 >= 0) || (g0 > 0 && g1 <= 0);
+        }
+    }
+}
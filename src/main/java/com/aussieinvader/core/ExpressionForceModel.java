@@ -0,0 +1,464 @@
+// src/main/java/com/aussieinvader/core/ExpressionForceModel.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Модель сил из текстового выражения. Текст разбирается один раз в дерево; bind подставляет
+// параметры набора как константы, сворачивает константные поддеревья и собирает из дерева
+// замыкания (по одному на узел). Интерпретации текста при каждом вызове нет: в цикле решателя
+// остаются только арифметика над v, m, thrust и вызовы уже собранных замыканий.
+// Грамматика: + − * / ^ (правоассоциативна), унарный минус, скобки, числа,
+// переменные v, m, thrust, параметры Таблицы 1, функции sqrt abs exp log sin cos tanh sign pow min max.
+final class ExpressionForceModel implements ForceModel {
+    private final Node root;
+    private final String canonical;
+
+    private ExpressionForceModel(Node root) {
+        this.root = root;
+        this.canonical = root.toString();
+    }
+
+    static ExpressionForceModel parse(String expression) {
+        Parser parser = new Parser(expression);
+        Node root = parser.parseExpression();
+        parser.expectEnd();
+        return new ExpressionForceModel(root);
+    }
+
+    @Override
+    public Acceleration bind(VehicleParameters p) {
+        return root.bind(p).compile();
+    }
+
+    // Равенство по разобранному выражению: от пробелов и лишних скобок ключ кеша не зависит
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ExpressionForceModel && canonical.equals(((ExpressionForceModel) o).canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return canonical.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return canonical;
+    }
+
+    // ---- Дерево выражения ----
+
+    private abstract static class Node {
+        // Подстановка параметров и свёртка констант
+        abstract Node bind(VehicleParameters p);
+
+        abstract Acceleration compile();
+
+        boolean isConstant() { return false; }
+    }
+
+    private static final class Constant extends Node {
+        final double value;
+
+        Constant(double value) { this.value = value; }
+
+        @Override Node bind(VehicleParameters p) { return this; }
+        @Override boolean isConstant() { return true; }
+
+        @Override
+        Acceleration compile() {
+            double c = value;
+            return (v, m, f) -> c;
+        }
+
+        @Override
+        public String toString() {
+            return value == Math.rint(value) && Math.abs(value) < 1e15
+                    ? Long.toString((long) value) : Double.toString(value);
+        }
+    }
+
+    private static final class Variable extends Node {
+        final String name;
+
+        Variable(String name) { this.name = name; }
+
+        @Override Node bind(VehicleParameters p) { return this; }
+
+        @Override
+        Acceleration compile() {
+            switch (name) {
+                case "v": return (v, m, f) -> v;
+                case "m": return (v, m, f) -> m;
+                case "thrust": return (v, m, f) -> f;
+                default: throw new AssertionError(name);
+            }
+        }
+
+        @Override public String toString() { return name; }
+    }
+
+    private static final class ParameterRef extends Node {
+        final Parameter parameter;
+
+        ParameterRef(Parameter parameter) { this.parameter = parameter; }
+
+        @Override Node bind(VehicleParameters p) { return new Constant(parameter.get(p)); }
+
+        @Override
+        Acceleration compile() {
+            throw new IllegalStateException("Параметр " + parameter.getLabel() + " не подставлен");
+        }
+
+        @Override public String toString() { return parameter.getLabel(); }
+    }
+
+    private static final class Negate extends Node {
+        final Node operand;
+
+        Negate(Node operand) { this.operand = operand; }
+
+        @Override
+        Node bind(VehicleParameters p) {
+            Node x = operand.bind(p);
+            return x.isConstant() ? new Constant(-((Constant) x).value) : new Negate(x);
+        }
+
+        @Override
+        Acceleration compile() {
+            Acceleration x = operand.compile();
+            return (v, m, f) -> -x.dvdt(v, m, f);
+        }
+
+        @Override public String toString() { return "(-" + operand + ")"; }
+    }
+
+    private static final class Binary extends Node {
+        final char op;
+        final Node left, right;
+
+        Binary(char op, Node left, Node right) {
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Node bind(VehicleParameters p) {
+            Node l = left.bind(p), r = right.bind(p);
+            if (l.isConstant() && r.isConstant()) {
+                return new Constant(apply(op, ((Constant) l).value, ((Constant) r).value));
+            }
+            // Тождества, после которых от узла ничего не остаётся. Только точные: x + 0 не убираем
+            // (−0 + 0 = +0), ^0.5 не заменяем на sqrt (они расходятся при −0 и −∞)
+            if (r.isConstant()) {
+                double c = ((Constant) r).value;
+                if (op == '-' && c == 0) return l;
+                if ((op == '*' || op == '/' || op == '^') && c == 1) return l;
+                if (op == '^' && c == 2) return new Binary('*', l, l);
+            }
+            if (l.isConstant()) {
+                double c = ((Constant) l).value;
+                if (op == '*' && c == 1) return r;
+            }
+            return new Binary(op, l, r);
+        }
+
+        @Override
+        Acceleration compile() {
+            // Константный операнд захватывается значением, а не вызовом
+            if (right.isConstant()) {
+                Acceleration a = left.compile();
+                double c = ((Constant) right).value;
+                switch (op) {
+                    case '+': return (v, m, f) -> a.dvdt(v, m, f) + c;
+                    case '-': return (v, m, f) -> a.dvdt(v, m, f) - c;
+                    case '*': return (v, m, f) -> a.dvdt(v, m, f) * c;
+                    case '/':
+                        if (isExactReciprocal(c)) {
+                            double inv = 1 / c;
+                            return (v, m, f) -> a.dvdt(v, m, f) * inv;
+                        }
+                        return (v, m, f) -> a.dvdt(v, m, f) / c;
+                    default: return (v, m, f) -> Math.pow(a.dvdt(v, m, f), c);
+                }
+            }
+            if (left.isConstant()) {
+                double c = ((Constant) left).value;
+                Acceleration b = right.compile();
+                switch (op) {
+                    case '+': return (v, m, f) -> c + b.dvdt(v, m, f);
+                    case '-': return (v, m, f) -> c - b.dvdt(v, m, f);
+                    case '*': return (v, m, f) -> c * b.dvdt(v, m, f);
+                    case '/': return (v, m, f) -> c / b.dvdt(v, m, f);
+                    default: return (v, m, f) -> Math.pow(c, b.dvdt(v, m, f));
+                }
+            }
+            Acceleration a = left.compile(), b = right.compile();
+            switch (op) {
+                case '+': return (v, m, f) -> a.dvdt(v, m, f) + b.dvdt(v, m, f);
+                case '-': return (v, m, f) -> a.dvdt(v, m, f) - b.dvdt(v, m, f);
+                case '*': return (v, m, f) -> a.dvdt(v, m, f) * b.dvdt(v, m, f);
+                case '/': return (v, m, f) -> a.dvdt(v, m, f) / b.dvdt(v, m, f);
+                default: return (v, m, f) -> Math.pow(a.dvdt(v, m, f), b.dvdt(v, m, f));
+            }
+        }
+
+        // 1/c точно представимо только для нормальной степени двойки: тогда x·(1/c) округляется
+        // так же, как x/c. Для остальных c умножение на обратное меняет последний бит результата
+        static boolean isExactReciprocal(double c) {
+            int exponent = Math.getExponent(c);
+            return exponent >= Double.MIN_EXPONENT && exponent <= Double.MAX_EXPONENT
+                    && c == Math.scalb(Math.signum(c), exponent);
+        }
+
+        static double apply(char op, double a, double b) {
+            switch (op) {
+                case '+': return a + b;
+                case '-': return a - b;
+                case '*': return a * b;
+                case '/': return a / b;
+                case '^': return Math.pow(a, b);
+                default: throw new AssertionError(op);
+            }
+        }
+
+        @Override public String toString() { return "(" + left + " " + op + " " + right + ")"; }
+    }
+
+    private static final class Call extends Node {
+        final String function;
+        final List<Node> args;
+
+        Call(String function, List<Node> args) {
+            this.function = function;
+            this.args = args;
+        }
+
+        @Override
+        Node bind(VehicleParameters p) {
+            List<Node> bound = new ArrayList<>(args.size());
+            boolean constant = true;
+            for (Node arg : args) {
+                Node b = arg.bind(p);
+                bound.add(b);
+                constant &= b.isConstant();
+            }
+            if (constant) {
+                double a = ((Constant) bound.get(0)).value;
+                double b = bound.size() > 1 ? ((Constant) bound.get(1)).value : Double.NaN;
+                return new Constant(apply(function, a, b));
+            }
+            return new Call(function, bound);
+        }
+
+        @Override
+        Acceleration compile() {
+            Acceleration a = args.get(0).compile();
+            switch (function) {
+                case "sqrt": return (v, m, f) -> Math.sqrt(a.dvdt(v, m, f));
+                case "abs": return (v, m, f) -> Math.abs(a.dvdt(v, m, f));
+                case "exp": return (v, m, f) -> Math.exp(a.dvdt(v, m, f));
+                case "log": return (v, m, f) -> Math.log(a.dvdt(v, m, f));
+                case "sin": return (v, m, f) -> Math.sin(a.dvdt(v, m, f));
+                case "cos": return (v, m, f) -> Math.cos(a.dvdt(v, m, f));
+                case "tanh": return (v, m, f) -> Math.tanh(a.dvdt(v, m, f));
+                case "sign": return (v, m, f) -> Math.signum(a.dvdt(v, m, f));
+                default: break;
+            }
+            Acceleration b = args.get(1).compile();
+            switch (function) {
+                case "pow": return (v, m, f) -> Math.pow(a.dvdt(v, m, f), b.dvdt(v, m, f));
+                case "min": return (v, m, f) -> Math.min(a.dvdt(v, m, f), b.dvdt(v, m, f));
+                case "max": return (v, m, f) -> Math.max(a.dvdt(v, m, f), b.dvdt(v, m, f));
+                default: throw new AssertionError(function);
+            }
+        }
+
+        static double apply(String function, double a, double b) {
+            switch (function) {
+                case "sqrt": return Math.sqrt(a);
+                case "abs": return Math.abs(a);
+                case "exp": return Math.exp(a);
+                case "log": return Math.log(a);
+                case "sin": return Math.sin(a);
+                case "cos": return Math.cos(a);
+                case "tanh": return Math.tanh(a);
+                case "sign": return Math.signum(a);
+                case "pow": return Math.pow(a, b);
+                case "min": return Math.min(a, b);
+                case "max": return Math.max(a, b);
+                default: throw new AssertionError(function);
+            }
+        }
+
+        static int arity(String function) {
+            switch (function) {
+                case "sqrt": case "abs": case "exp": case "log": case "sin": case "cos": case "tanh": case "sign":
+                    return 1;
+                case "pow": case "min": case "max":
+                    return 2;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(function).append('(');
+            for (int i = 0; i < args.size(); i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(args.get(i));
+            }
+            return sb.append(')').toString();
+        }
+    }
+
+    // ---- Разбор: рекурсивный спуск ----
+
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Node parseExpression() {
+            Node node = parseTerm();
+            while (true) {
+                char c = peek();
+                if (c != '+' && c != '-') return node;
+                pos++;
+                node = new Binary(c, node, parseTerm());
+            }
+        }
+
+        private Node parseTerm() {
+            Node node = parseUnary();
+            while (true) {
+                char c = peek();
+                if (c != '*' && c != '/') return node;
+                pos++;
+                node = new Binary(c, node, parseUnary());
+            }
+        }
+
+        private Node parseUnary() {
+            char c = peek();
+            if (c == '-') {
+                pos++;
+                return new Negate(parseUnary());
+            }
+            if (c == '+') {
+                pos++;
+                return parseUnary();
+            }
+            return parsePower();
+        }
+
+        private Node parsePower() {
+            Node base = parsePrimary();
+            if (peek() == '^') {
+                pos++;
+                return new Binary('^', base, parseUnary());
+            }
+            return base;
+        }
+
+        private Node parsePrimary() {
+            char c = peek();
+            if (c == '(') {
+                pos++;
+                Node node = parseExpression();
+                expect(')');
+                return node;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            }
+            if (Character.isLetter(c) || c == '_') {
+                return parseIdentifier();
+            }
+            throw error(c == 0 ? "неожиданный конец выражения" : "неожиданный символ '" + c + "'");
+        }
+
+        private Node parseNumber() {
+            int start = pos;
+            while (pos < text.length() && (Character.isDigit(text.charAt(pos)) || text.charAt(pos) == '.')) pos++;
+            if (pos < text.length() && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+                pos++;
+                if (pos < text.length() && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) pos++;
+                while (pos < text.length() && Character.isDigit(text.charAt(pos))) pos++;
+            }
+            String literal = text.substring(start, pos);
+            try {
+                return new Constant(Double.parseDouble(literal));
+            } catch (NumberFormatException e) {
+                throw error("неверное число '" + literal + "'");
+            }
+        }
+
+        private Node parseIdentifier() {
+            int start = pos;
+            while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                pos++;
+            }
+            String name = text.substring(start, pos);
+            if (peek() == '(') {
+                int arity = Call.arity(name);
+                if (arity < 0) {
+                    pos = start;
+                    throw error("неизвестная функция '" + name + "'");
+                }
+                pos++;
+                List<Node> args = new ArrayList<>();
+                args.add(parseExpression());
+                while (peek() == ',') {
+                    pos++;
+                    args.add(parseExpression());
+                }
+                expect(')');
+                if (args.size() != arity) {
+                    throw error(name + " принимает аргументов: " + arity + ", передано " + args.size());
+                }
+                return new Call(name, args);
+            }
+            if (name.equals("v") || name.equals("m") || name.equals("thrust")) {
+                return new Variable(name);
+            }
+            for (Parameter parameter : Parameter.values()) {
+                if (parameter.getLabel().equals(name)) {
+                    return new ParameterRef(parameter);
+                }
+            }
+            pos = start;
+            throw error("неизвестное имя '" + name + "'");
+        }
+
+        private char peek() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+            return pos < text.length() ? text.charAt(pos) : 0;
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("ожидалось '" + c + "'");
+            }
+            pos++;
+        }
+
+        void expectEnd() {
+            if (peek() != 0) {
+                throw error("лишний текст после выражения");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(String.format(Locale.ROOT,
+                    "Ошибка в выражении модели сил (позиция %d): %s: %s", pos + 1, message, text));
+        }
+    }
+}
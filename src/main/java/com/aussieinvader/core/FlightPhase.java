@@ -0,0 +1,17 @@
+// src/main/java/com/aussieinvader/core/FlightPhase.java
+package com.aussieinvader.core;
+
+// Фазы заезда: разгон на тяге, накат после выгорания топлива и торможение до остановки
+public enum FlightPhase {
+    BURN("Горение"),
+    COAST("Накат"),
+    BRAKING("Торможение");
+
+    private final String label;
+
+    FlightPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+}
@@ -0,0 +1,35 @@
+// src/main/java/com/aussieinvader/core/ForceModel.java
+package com.aussieinvader.core;
+
+// Модель сил: ускорение dv/dt как функция скорости, массы и текущей силы тяги.
+// Модель хранится в VehicleParameters и специализируется (bind) один раз на набор параметров,
+// поэтому в цикле решателя вызывается уже готовая функция трёх переменных.
+public interface ForceModel {
+
+    // dv/dt = F/m − BETA·v²/m − MU·G; решатели обрабатывают её отдельной веткой без вызова через интерфейс
+    ForceModel STANDARD = new ForceModel() {
+        @Override
+        public Acceleration bind(VehicleParameters p) {
+            double beta = p.beta, friction = p.getFrictionAcceleration();
+            return (v, m, thrust) -> (thrust - beta * v * v) / m - friction;
+        }
+
+        @Override
+        public String toString() {
+            return "thrust/m - BETA*v*v/m - MU*G";
+        }
+    };
+
+    Acceleration bind(VehicleParameters p);
+
+    // Выражение от v, m, thrust и параметров M0, M_FINAL, Q, U, BETA, MU, G,
+    // например "thrust/m - BETA*v^2/m - MU*G*(1 + v/500)"
+    static ForceModel parse(String expression) {
+        return ExpressionForceModel.parse(expression);
+    }
+
+    @FunctionalInterface
+    interface Acceleration {
+        double dvdt(double v, double m, double thrust);
+    }
+}
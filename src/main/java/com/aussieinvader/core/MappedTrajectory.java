@@ -0,0 +1,73 @@
+// src/main/java/com/aussieinvader/core/MappedTrajectory.java
+package com.aussieinvader.core;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Траектория из файлов-столбцов хранилища, отображённых в память только для чтения.
+// Точки не копируются в кучу: страницы подгружает ОС по мере обращения.
+// Столбец пути x есть только у заездов целиком, у остальных distanceFile == null.
+// Столбец отображается кусками по 2^27 чисел (1 ГБ), так как одно отображение ограничено 2 ГБ.
+final class MappedTrajectory implements TrajectoryView {
+    private static final int CHUNK_SHIFT = 27;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final int size;
+    private final DoubleBuffer[] time;
+    private final DoubleBuffer[] velocity;
+    private final DoubleBuffer[] mass;
+    private final DoubleBuffer[] distance;
+    private final double maxVelocity;
+    private final double timeOfMaxVelocity;
+
+    MappedTrajectory(Path timeFile, Path velocityFile, Path massFile, Path distanceFile, int size,
+                     double maxVelocity, double timeOfMaxVelocity) throws IOException {
+        this.size = size;
+        this.time = map(timeFile, size);
+        this.velocity = map(velocityFile, size);
+        this.mass = map(massFile, size);
+        this.distance = distanceFile == null ? null : map(distanceFile, size);
+        this.maxVelocity = maxVelocity;
+        this.timeOfMaxVelocity = timeOfMaxVelocity;
+    }
+
+    // Отображение остаётся действительным и после закрытия канала
+    private static DoubleBuffer[] map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long expected = (long) size * Double.BYTES;
+            if (channel.size() < expected) {
+                throw new IOException("Файл " + file + " короче ожидаемого: " + channel.size() + " < " + expected);
+            }
+            int chunks = (int) (((long) size + CHUNK_MASK) >>> CHUNK_SHIFT);
+            DoubleBuffer[] buffers = new DoubleBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                long first = (long) c << CHUNK_SHIFT;
+                long count = Math.min(size - first, 1L << CHUNK_SHIFT);
+                buffers[c] = channel.map(FileChannel.MapMode.READ_ONLY, first * Double.BYTES, count * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+            }
+            return buffers;
+        }
+    }
+
+    @Override public int size() { return size; }
+    @Override public double getTime(int i) { return get(time, i); }
+    @Override public double getVelocity(int i) { return get(velocity, i); }
+    @Override public double getMass(int i) { return get(mass, i); }
+    @Override public boolean hasDistance() { return distance != null; }
+    @Override public double getDistance(int i) { return distance == null ? Double.NaN : get(distance, i); }
+    @Override public double getMaxVelocity() { return maxVelocity; }
+    @Override public double getTimeOfMaxVelocity() { return timeOfMaxVelocity; }
+
+    private double get(DoubleBuffer[] column, int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Индекс " + i + " вне диапазона [0, " + size + ")");
+        }
+        return column[i >>> CHUNK_SHIFT].get(i & CHUNK_MASK);
+    }
+}
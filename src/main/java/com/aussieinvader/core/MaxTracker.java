@@ -0,0 +1,22 @@
+// src/main/java/com/aussieinvader/core/MaxTracker.java
+package com.aussieinvader.core;
+
+// Потоковый поиск максимальной скорости без хранения точек
+public class MaxTracker implements TrajectorySink {
+    private double maxVelocity = Double.NEGATIVE_INFINITY;
+    private double timeOfMaxVelocity;
+    private long count;
+
+    @Override
+    public void add(double t, double v, double m) {
+        count++;
+        if (v > maxVelocity) {
+            maxVelocity = v;
+            timeOfMaxVelocity = t;
+        }
+    }
+
+    public long getCount() { return count; }
+    public double getMaxVelocity() { return count == 0 ? 0 : maxVelocity; }
+    public double getTimeOfMaxVelocity() { return count == 0 ? 0 : timeOfMaxVelocity; }
+}
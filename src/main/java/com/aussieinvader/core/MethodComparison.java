@@ -0,0 +1,87 @@
+// src/main/java/com/aussieinvader/core/MethodComparison.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+// Сравнение решателей на одном наборе параметров: Эйлер, RK4, Дорманд-Принс и аналитический ряд
+// запускаются одновременно на общем пуле, время каждого меряется внутри его задачи — лучшее из REPEATS
+// запусков, чтобы первый запуск с загрузкой классов и интерпретатором не решал исход сравнения.
+// Эталон — аналитическое решение из REFERENCE_TERMS членов, вычисленное в узлах каждого метода,
+// поэтому погрешность v(t) считается без интерполяции.
+public class MethodComparison {
+    private static final int REFERENCE_TERMS = 50;
+    private static final int REFERENCE_POINTS = 2000;
+    private static final int REPEATS = 3;
+
+    private final ForkJoinPool pool;
+
+    public MethodComparison() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MethodComparison(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // steps — шаги Эйлера и RK4 и точки аналитической кривой; tolerance — atol = rtol адаптивного метода
+    public ComparisonReport run(VehicleParameters p, int steps, int terms, double tolerance) {
+        if (steps <= 0 || terms < 0 || !(tolerance > 0)) {
+            throw new IllegalArgumentException("Нужно steps > 0, terms ≥ 0 и допуск > 0: steps=" + steps
+                    + ", terms=" + terms + ", tolerance=" + tolerance);
+        }
+        long start = System.nanoTime();
+        DoubleUnaryOperator reference = AnalyticalSolver.velocity(p, REFERENCE_TERMS);
+        MaxTracker tracker = new MaxTracker();
+        AnalyticalSolver.solve(p, REFERENCE_TERMS, REFERENCE_POINTS, tracker);
+        double referenceMax = tracker.getMaxVelocity();
+
+        List<Callable<ComparisonReport.Row>> tasks = List.of(
+                () -> measure(() -> NumericalSolver.solveEuler(p, steps), reference, referenceMax),
+                () -> measure(() -> NumericalSolver.solveRK4(p, steps), reference, referenceMax),
+                () -> measure(() -> NumericalSolver.solveAdaptive(p, tolerance, tolerance, 0), reference, referenceMax),
+                () -> measure(() -> AnalyticalSolver.solve(p, terms, steps), reference, referenceMax));
+        List<ComparisonReport.Row> rows = new ArrayList<>(tasks.size());
+        for (Future<ComparisonReport.Row> future : pool.invokeAll(tasks)) {
+            rows.add(join(future));
+        }
+        return new ComparisonReport(p, referenceMax, rows, System.nanoTime() - start);
+    }
+
+    private static ComparisonReport.Row measure(Supplier<SimulationResult> solver, DoubleUnaryOperator reference,
+                                                double referenceMax) {
+        SimulationResult result = null;
+        long elapsed = Long.MAX_VALUE;
+        for (int i = 0; i < REPEATS; i++) {
+            long start = System.nanoTime();
+            result = solver.get();
+            elapsed = Math.min(elapsed, System.nanoTime() - start);
+        }
+
+        double[] error = new double[result.size()];
+        double maxError = 0;
+        for (int i = 0; i < error.length; i++) {
+            error[i] = result.getVelocity(i) - reference.applyAsDouble(result.getTime(i));
+            maxError = Math.max(maxError, Math.abs(error[i]));
+        }
+        return new ComparisonReport.Row(result, elapsed, Math.abs(result.getMaxVelocity() - referenceMax),
+                maxError, error);
+    }
+
+    private static ComparisonReport.Row join(Future<ComparisonReport.Row> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Сравнение методов прервано", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка при решении", e.getCause());
+        }
+    }
+}
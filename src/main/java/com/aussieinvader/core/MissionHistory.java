@@ -0,0 +1,96 @@
+// src/main/java/com/aussieinvader/core/MissionHistory.java
+package com.aussieinvader.core;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Последние заезды вместе со снимками состояния (MissionSolver.Checkpoint). Новый заезд с теми же
+// параметрами автомобиля, методом и числом шагов продолжается с последнего снимка, который для него
+// ещё верен: горение от сценария не зависит, узлы наката — от его длины, узлы торможения — от maxTime.
+// Поэтому правка наката или парашюта пересчитывает только хвост заезда, а результат совпадает с расчётом
+// с начала. Другое число шагов меняет всю сетку — такой заезд считается с начала.
+// Заезды держатся через SoftReference, как и в SolutionCache.
+public class MissionHistory {
+    private static final int CAPACITY = 4;
+
+    private final Deque<SoftReference<MissionSolver.Solution>> recent = new ArrayDeque<>();
+
+    private final LongAdder resumed = new LongAdder();
+    private final LongAdder reusedSteps = new LongAdder();
+    private final LongAdder computedSteps = new LongAdder();
+
+    public SimulationResult solve(MissionProfile profile, String method, int steps, TrajectorySink observer) {
+        MissionSolver.Solution previous = null;
+        MissionSolver.Checkpoint from = null;
+        synchronized (this) {
+            for (Iterator<SoftReference<MissionSolver.Solution>> it = recent.iterator(); it.hasNext(); ) {
+                MissionSolver.Solution solution = it.next().get();
+                if (solution == null) {
+                    it.remove();
+                    continue;
+                }
+                MissionSolver.Checkpoint checkpoint = latestValid(solution, profile, method, steps);
+                if (checkpoint != null && (from == null || checkpoint.steps > from.steps)) {
+                    previous = solution;
+                    from = checkpoint;
+                }
+            }
+        }
+
+        MissionSolver.Solution solution = MissionSolver.solve(profile, method, steps, observer, previous, from);
+        if (from != null) {
+            resumed.increment();
+            reusedSteps.add(from.steps);
+        }
+        computedSteps.add(solution.computedSteps);
+        synchronized (this) {
+            recent.addFirst(new SoftReference<>(solution));
+            while (recent.size() > CAPACITY) {
+                recent.removeLast();
+            }
+        }
+        return solution.result;
+    }
+
+    // Последний снимок прошлого заезда, после которого новый заезд идёт по тем же узлам и уравнениям
+    static MissionSolver.Checkpoint latestValid(MissionSolver.Solution solution, MissionProfile profile,
+                                                String method, int steps) {
+        MissionProfile old = solution.profile;
+        if (solution.steps != steps || !solution.method.equals(method) || !old.params.equals(profile.params)) {
+            return null;
+        }
+        boolean sameBraking = old.getBrakeStart() == profile.getBrakeStart()
+                && old.brakeDrag == profile.brakeDrag
+                && old.brakeDeceleration == profile.brakeDeceleration;
+        MissionSolver.Checkpoint latest = null;
+        // Снимки идут по возрастанию времени
+        for (MissionSolver.Checkpoint checkpoint : solution.checkpoints) {
+            boolean valid = checkpoint.phase == FlightPhase.COAST
+                    ? checkpoint.t <= profile.getBrakeStart()
+                    : sameBraking && checkpoint.t <= profile.maxTime;
+            if (valid) {
+                latest = checkpoint;
+            }
+        }
+        return latest;
+    }
+
+    public synchronized void clear() {
+        recent.clear();
+    }
+
+    // Заездов, продолженных со снимка
+    public long getResumed() { return resumed.sum(); }
+    // Шагов, взятых из прошлых заездов, и шагов, посчитанных заново
+    public long getReusedSteps() { return reusedSteps.sum(); }
+    public long getComputedSteps() { return computedSteps.sum(); }
+
+    @Override
+    public String toString() {
+        return "продолжено со снимка: " + getResumed() + ", шагов взято готовыми: " + getReusedSteps()
+                + ", посчитано: " + getComputedSteps();
+    }
+}
@@ -0,0 +1,78 @@
+// src/main/java/com/aussieinvader/core/MissionProfile.java
+package com.aussieinvader.core;
+
+// Заезд целиком: параметры автомобиля и сценарий после выгорания топлива.
+// Накат длится coastDuration секунд (тяги нет, масса M_FINAL), затем торможение: к сопротивлению
+// воздуха добавляется парашют (brakeDrag, та же размерность, что у BETA) и постоянное
+// замедление тормозов brakeDeceleration. Расчёт заканчивается остановкой или в момент maxTime.
+public final class MissionProfile {
+    public static final double DEFAULT_COAST_DURATION = 5.0;    // с
+    public static final double DEFAULT_BRAKE_DRAG = 1.0;        // кг/м, парашют
+    public static final double DEFAULT_BRAKE_DECELERATION = 0;  // м/с²
+    public static final double DEFAULT_MAX_TIME = 600.0;        // с
+
+    public final VehicleParameters params;
+    public final double coastDuration;
+    public final double brakeDrag;
+    public final double brakeDeceleration;
+    public final double maxTime;
+
+    public MissionProfile(VehicleParameters params, double coastDuration, double brakeDrag,
+                          double brakeDeceleration, double maxTime) {
+        if (!(coastDuration >= 0) || !(brakeDrag >= 0) || !(brakeDeceleration >= 0)
+                || Double.isInfinite(coastDuration) || Double.isInfinite(brakeDrag)
+                || Double.isInfinite(brakeDeceleration)) {
+            throw new IllegalArgumentException("Накат и торможение не могут быть отрицательными: coast="
+                    + coastDuration + ", brakeDrag=" + brakeDrag + ", brakeDeceleration=" + brakeDeceleration);
+        }
+        if (!(maxTime > params.getBurnTime() + coastDuration)) {
+            throw new IllegalArgumentException("maxTime должно быть больше времени горения и наката: " + maxTime);
+        }
+        this.params = params;
+        this.coastDuration = coastDuration;
+        this.brakeDrag = brakeDrag;
+        this.brakeDeceleration = brakeDeceleration;
+        this.maxTime = maxTime;
+    }
+
+    public static MissionProfile standard(VehicleParameters params) {
+        return new MissionProfile(params, DEFAULT_COAST_DURATION, DEFAULT_BRAKE_DRAG, DEFAULT_BRAKE_DECELERATION,
+                DEFAULT_MAX_TIME);
+    }
+
+    public MissionProfile withParams(VehicleParameters value) {
+        return new MissionProfile(value, coastDuration, brakeDrag, brakeDeceleration, maxTime);
+    }
+
+    public MissionProfile withCoastDuration(double value) {
+        return new MissionProfile(params, value, brakeDrag, brakeDeceleration, maxTime);
+    }
+
+    public MissionProfile withBrakeDrag(double value) {
+        return new MissionProfile(params, coastDuration, value, brakeDeceleration, maxTime);
+    }
+
+    public MissionProfile withBrakeDeceleration(double value) {
+        return new MissionProfile(params, coastDuration, brakeDrag, value, maxTime);
+    }
+
+    public MissionProfile withMaxTime(double value) {
+        return new MissionProfile(params, coastDuration, brakeDrag, brakeDeceleration, value);
+    }
+
+    // Момент начала торможения
+    public double getBrakeStart() {
+        return params.getBurnTime() + coastDuration;
+    }
+
+    // Настройки сценария для ключа кеша (SolutionCache.Key)
+    double[] settings() {
+        return new double[]{coastDuration, brakeDrag, brakeDeceleration, maxTime};
+    }
+
+    @Override
+    public String toString() {
+        return params + "; накат " + coastDuration + " с, парашют " + brakeDrag
+                + ", тормоза " + brakeDeceleration + " м/с²";
+    }
+}
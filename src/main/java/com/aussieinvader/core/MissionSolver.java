@@ -0,0 +1,307 @@
+// src/main/java/com/aussieinvader/core/MissionSolver.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Заезд целиком за один проход: горение → накат → торможение до остановки.
+// Состояние {t, v, m, x}: к скорости и массе добавлен пройденный путь x' = v, интегрируемый теми же
+// стадиями метода. Шаг фазы горения dt = T_burn/steps переиспользуется в следующих фазах: накат идёт
+// по сетке T_burn + k·dt, торможение — по сетке начала торможения, последний шаг фазы укорачивается до её границы.
+// Поэтому узлы наката не зависят от его длины, а узлы торможения — от maxTime, и заезд можно продолжить
+// со снимка состояния прошлого заезда (Checkpoint, см. MissionHistory).
+// Моменты рекорда и остановки уточняются методом Брента по длине последнего шага.
+public class MissionSolver {
+    private static final double TIME_TOLERANCE = 1e-12;
+    // Снимок состояния — в начале наката и торможения и каждые CHECKPOINT_INTERVAL шагов в них
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    public static SimulationResult solveEuler(MissionProfile profile, int steps) {
+        return solve(profile, "euler", steps, null);
+    }
+
+    public static SimulationResult solveRK4(MissionProfile profile, int steps) {
+        return solve(profile, "rk4", steps, null);
+    }
+
+    // method — "euler" или "rk4"; observer (может быть null) получает точки по мере вычисления
+    public static SimulationResult solve(MissionProfile profile, String method, int steps, TrajectorySink observer) {
+        return solve(profile, method, steps, observer, null, null).result;
+    }
+
+    // Заезд с начала (previous == null) или продолжение с снимка from прошлого заезда previous:
+    // его точки и события до снимка копируются, счётчики шагов продолжаются. Пригодность снимка
+    // для нового профиля проверяет вызывающий (MissionHistory); результат совпадает с расчётом с начала.
+    static Solution solve(MissionProfile profile, String method, int steps, TrajectorySink observer,
+                          Solution previous, Checkpoint from) {
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Число шагов должно быть положительным: " + steps);
+        }
+        boolean rk4;
+        switch (method) {
+            case "euler": rk4 = false; break;
+            case "rk4": rk4 = true; break;
+            default: throw new IllegalArgumentException("Заезд считается методами euler и rk4: " + method);
+        }
+        SolverMetrics.Probe probe = SolverMetrics.begin(rk4 ? SolverMetrics.Phase.RK4 : SolverMetrics.Phase.EULER);
+        VehicleParameters p = profile.params;
+        double tBurn = p.getBurnTime();
+        double dt = tBurn / steps;
+        int coastSteps = (int) Math.ceil(profile.coastDuration / dt);
+        Run run = new Run(profile, rk4, new Trajectory(steps + coastSteps + 1), observer);
+        FlightPhase phase = FlightPhase.BURN;
+        if (from != null) {
+            run.restore(previous, from);
+            phase = from.phase;
+        }
+        int resumedSteps = run.steps;
+        long resumedEvaluations = run.evaluations;
+
+        boolean stopped = false;
+        if (phase == FlightPhase.BURN) {
+            run.emit();
+            run.phase(FlightPhase.BURN, tBurn, steps);
+            run.event("Выгорание топлива");
+            stopped = run.v <= 0;
+            if (!stopped) {
+                run.checkpoint(FlightPhase.COAST);
+            }
+        }
+        if (!stopped && phase != FlightPhase.BRAKING) {
+            stopped = run.phase(FlightPhase.COAST, profile.getBrakeStart(), dt);
+            if (!stopped) {
+                run.event("Начало торможения");
+                run.checkpoint(FlightPhase.BRAKING);
+            }
+        }
+        if (!stopped) {
+            stopped = run.phase(FlightPhase.BRAKING, profile.maxTime, dt);
+        }
+        if (stopped) {
+            run.event("Остановка");
+        }
+
+        SolverStats stats = new SolverStats(run.steps, 0, run.evaluations);
+        // В метрики идёт только выполненная сейчас работа
+        probe.end(run.steps - resumedSteps, 0, run.evaluations - resumedEvaluations);
+        String name = (rk4 ? "Рунге-Кутта 4" : "Метод Эйлера") + " (горение, накат, торможение)";
+        Trajectory trajectory = run.trajectory;
+        SimulationResult result = new SimulationResult(trajectory, name, stats, run.events,
+                trajectory.getMaxVelocity(), trajectory.getTimeOfMaxVelocity());
+        return new Solution(profile, method, steps, result, trajectory, run.checkpoints,
+                run.steps - resumedSteps);
+    }
+
+    // Заезд вместе со снимками состояния, с которых его можно продолжить
+    static final class Solution {
+        final MissionProfile profile;
+        final String method;
+        final int steps;
+        final SimulationResult result;
+        final Trajectory trajectory;
+        final List<Checkpoint> checkpoints;
+        // Шагов выполнено при этом расчёте (меньше полного числа, если заезд продолжен со снимка)
+        final int computedSteps;
+
+        Solution(MissionProfile profile, String method, int steps, SimulationResult result, Trajectory trajectory,
+                 List<Checkpoint> checkpoints, int computedSteps) {
+            this.profile = profile;
+            this.method = method;
+            this.steps = steps;
+            this.result = result;
+            this.trajectory = trajectory;
+            this.checkpoints = checkpoints;
+            this.computedSteps = computedSteps;
+        }
+    }
+
+    // Состояние в узле сетки; phase — фаза, которая продолжается с этого состояния
+    static final class Checkpoint {
+        final FlightPhase phase;
+        final double t, v, m, x;
+        final int points;
+        final int events;
+        final int steps;
+        final long evaluations;
+
+        Checkpoint(FlightPhase phase, double t, double v, double m, double x, int points, int events,
+                   int steps, long evaluations) {
+            this.phase = phase;
+            this.t = t;
+            this.v = v;
+            this.m = m;
+            this.x = x;
+            this.points = points;
+            this.events = events;
+            this.steps = steps;
+            this.evaluations = evaluations;
+        }
+    }
+
+    private static final class Run {
+        final MissionProfile profile;
+        final VehicleParameters p;
+        final boolean rk4;
+        final Trajectory trajectory;
+        final TrajectorySink observer;
+        final List<SimulationEvent> events = new ArrayList<>();
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+
+        double t, v, m, x;
+        int steps;
+        long evaluations;
+        // Результат пробного шага: v, m, x
+        private final double[] next = new double[3];
+
+        Run(MissionProfile profile, boolean rk4, Trajectory trajectory, TrajectorySink observer) {
+            this.profile = profile;
+            this.p = profile.params;
+            this.rk4 = rk4;
+            this.trajectory = trajectory;
+            this.observer = observer;
+            this.m = p.m0;
+        }
+
+        // Горение: n равных шагов до tEnd
+        boolean phase(FlightPhase phase, double tEnd, int n) {
+            double t0 = t;
+            double h = (tEnd - t0) / n;
+            for (int i = 1; i <= n; i++) {
+                if (step(phase, h, i == n ? tEnd : t0 + i * h)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Накат и торможение: шагами dt до остановки, но не дальше tEnd
+        boolean phase(FlightPhase phase, double tEnd, double dt) {
+            while (t < tEnd) {
+                double h = Math.min(dt, tEnd - t);
+                if (step(phase, h, t + h >= tEnd ? tEnd : t + h)) {
+                    return true;
+                }
+                // Укороченный шаг у границы фазы — не узел сетки, снимок с него не продолжить
+                if (h == dt && steps % CHECKPOINT_INTERVAL == 0) {
+                    checkpoint(phase);
+                }
+            }
+            return false;
+        }
+
+        void checkpoint(FlightPhase phase) {
+            checkpoints.add(new Checkpoint(phase, t, v, m, x, trajectory.size(), events.size(), steps, evaluations));
+        }
+
+        // Начало с снимка: точки, события и снимки прошлого заезда до него включительно
+        void restore(Solution previous, Checkpoint from) {
+            Trajectory source = previous.trajectory;
+            for (int i = 0; i < from.points; i++) {
+                trajectory.add(source.getTime(i), source.getVelocity(i), source.getMass(i), source.getDistance(i));
+                if (observer != null) {
+                    observer.add(source.getTime(i), source.getVelocity(i), source.getMass(i), source.getDistance(i));
+                }
+            }
+            events.addAll(previous.result.getEvents().subList(0, from.events));
+            for (Checkpoint checkpoint : previous.checkpoints) {
+                if (checkpoint == from) break;
+                checkpoints.add(checkpoint);
+            }
+            checkpoints.add(from);
+            t = from.t;
+            v = from.v;
+            m = from.m;
+            x = from.x;
+            steps = from.steps;
+            evaluations = from.evaluations;
+        }
+
+        // true — автомобиль остановился внутри шага
+        private boolean step(FlightPhase phase, double h, double tNext) {
+            advance(phase, h);
+            steps++;
+            if (v < PhysicsModel.RECORD_VELOCITY && next[0] >= PhysicsModel.RECORD_VELOCITY) {
+                locate(phase, h, PhysicsModel.RECORD_VELOCITY, "Рекорд 1000 миль/ч");
+                advance(phase, h);
+            }
+            if (phase != FlightPhase.BURN && next[0] <= 0) {
+                double tau = root(phase, h, 0);
+                advance(phase, tau);
+                t += tau;
+                v = 0;
+                m = next[1];
+                x = next[2];
+                emit();
+                return true;
+            }
+            t = tNext;
+            v = next[0];
+            m = next[1];
+            x = next[2];
+            emit();
+            return false;
+        }
+
+        // Событие внутри шага: состояние после укороченного шага длины τ
+        private void locate(FlightPhase phase, double h, double level, String name) {
+            double tau = root(phase, h, level);
+            advance(phase, tau);
+            events.add(new SimulationEvent(name, t + tau, next[0], next[1], next[2]));
+        }
+
+        private double root(FlightPhase phase, double h, double level) {
+            double g0 = v - level;
+            double g1 = next[0] - level;
+            return RootFinder.brent(tau -> {
+                advance(phase, tau);
+                return next[0] - level;
+            }, 0, h, g0, g1, TIME_TOLERANCE);
+        }
+
+        // Один шаг длины h из текущего состояния в next (состояние не меняется)
+        private void advance(FlightPhase phase, double h) {
+            double q = phase == FlightPhase.BURN ? p.q : 0;
+            if (!rk4) {
+                double k1 = acceleration(phase, v, m);
+                next[0] = v + k1 * h;
+                next[1] = m - q * h;
+                next[2] = x + v * h;
+                return;
+            }
+            double half = h / 2;
+            double mHalf = m - q * half, mEnd = m - q * h;
+            double k1 = acceleration(phase, v, m);
+            double v2 = v + k1 * half;
+            double k2 = acceleration(phase, v2, mHalf);
+            double v3 = v + k2 * half;
+            double k3 = acceleration(phase, v3, mHalf);
+            double v4 = v + k3 * h;
+            double k4 = acceleration(phase, v4, mEnd);
+            next[0] = v + (h / 6) * (k1 + 2 * k2 + 2 * k3 + k4);
+            next[1] = mEnd;
+            // x' = v: те же веса, что и для скорости, по значениям v на стадиях
+            next[2] = x + (h / 6) * (v + 2 * v2 + 2 * v3 + v4);
+        }
+
+        private double acceleration(FlightPhase phase, double v, double m) {
+            evaluations++;
+            switch (phase) {
+                case BURN: return PhysicsModel.dvdt(p, v, m);
+                case COAST: return PhysicsModel.dvdt(p, v, m, 0);
+                default: return PhysicsModel.dvdt(p, v, m, 0)
+                        - profile.brakeDrag * v * v / m - profile.brakeDeceleration;
+            }
+        }
+
+        void emit() {
+            trajectory.add(t, v, m, x);
+            if (observer != null) {
+                observer.add(t, v, m, x);
+            }
+        }
+
+        void event(String name) {
+            events.add(new SimulationEvent(name, t, v, m, x));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+// src/main/java/com/aussieinvader/core/MonteCarloReport.java
+package com.aussieinvader.core;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class MonteCarloReport {
+    private final Map<Parameter, Distribution> distributions;
+    private final int steps;
+    private final double tolerance;
+    private final RunningStats stats;
+    private final QuantileSketch sketch;
+    private final long exceeded;
+    private final long rejected;
+    private final boolean converged;
+    private final long elapsedNanos;
+
+    MonteCarloReport(Map<Parameter, Distribution> distributions, int steps, double tolerance, RunningStats stats,
+                     QuantileSketch sketch, long exceeded, long rejected, boolean converged, long elapsedNanos) {
+        this.distributions = Collections.unmodifiableMap(new EnumMap<>(distributions));
+        this.steps = steps;
+        this.tolerance = tolerance;
+        this.stats = stats;
+        this.sketch = sketch;
+        this.exceeded = exceeded;
+        this.rejected = rejected;
+        this.converged = converged;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<Parameter, Distribution> getDistributions() { return distributions; }
+    public int getSteps() { return steps; }
+    public double getTolerance() { return tolerance; }
+    public long getSamples() { return stats.getCount(); }
+    public long getRejectedSamples() { return rejected; }
+    public long getRecordBreakingCount() { return exceeded; }
+    public boolean isConverged() { return converged; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getMeanMaxVelocity() { return stats.getMean(); }
+    public double getMeanHalfWidth() { return stats.getMeanHalfWidth(MonteCarloStudy.Z_95); }
+    public double getStandardDeviation() { return stats.getStandardDeviation(); }
+    public double getMinMaxVelocity() { return stats.getMin(); }
+    public double getMaxMaxVelocity() { return stats.getMax(); }
+    public double getQuantile(double q) { return sketch.quantile(q); }
+
+    // Вероятность, что максимальная скорость превысит рекорд 447.04 м/с
+    public double getRecordProbability() {
+        return getSamples() == 0 ? Double.NaN : (double) exceeded / getSamples();
+    }
+
+    // 95%-й интервал Уилсона: в отличие от нормального приближения, не вырождается при p = 0 или 1
+    public double getRecordProbabilityLow() { return wilsonCenter() - wilsonHalfWidth(exceeded, getSamples(), MonteCarloStudy.Z_95); }
+    public double getRecordProbabilityHigh() { return wilsonCenter() + wilsonHalfWidth(exceeded, getSamples(), MonteCarloStudy.Z_95); }
+
+    private double wilsonCenter() {
+        double n = getSamples();
+        double z2 = MonteCarloStudy.Z_95 * MonteCarloStudy.Z_95;
+        return (exceeded + z2 / 2) / (n + z2);
+    }
+
+    static double wilsonHalfWidth(long successes, long n, double z) {
+        if (n == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double p = (double) successes / n;
+        double z2 = z * z;
+        return z / (n + z2) * Math.sqrt(n * p * (1 - p) + z2 / 4);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Монте-Карло, RK4 (%d шагов): %d выборок за %.3f с", steps, getSamples(),
+                elapsedNanos / 1e9));
+        if (rejected > 0) {
+            sb.append(String.format(Locale.ROOT, " (отброшено недопустимых наборов: %d)", rejected));
+        }
+        sb.append('\n');
+        for (Map.Entry<Parameter, Distribution> e : distributions.entrySet()) {
+            sb.append("  ").append(e.getKey().getLabel()).append(" ~ ").append(e.getValue()).append('\n');
+        }
+        sb.append(String.format(Locale.ROOT, "  vmax: среднее %.3f ± %.3f м/с, σ = %.3f, от %.3f до %.3f%n",
+                getMeanMaxVelocity(), getMeanHalfWidth(), getStandardDeviation(),
+                getMinMaxVelocity(), getMaxMaxVelocity()));
+        sb.append(String.format(Locale.ROOT, "  квантили: 5%% %.3f, 50%% %.3f, 95%% %.3f м/с%n",
+                getQuantile(0.05), getQuantile(0.5), getQuantile(0.95)));
+        sb.append(String.format(Locale.ROOT, "  P(vmax > %.2f м/с) = %.4f, 95%% интервал [%.4f, %.4f]%n",
+                PhysicsModel.RECORD_VELOCITY, getRecordProbability(),
+                getRecordProbabilityLow(), getRecordProbabilityHigh()));
+        if (tolerance > 0) {
+            sb.append(converged
+                    ? String.format(Locale.ROOT, "  Точность ±%.4f достигнута%n", tolerance)
+                    : String.format(Locale.ROOT, "  Точность ±%.4f не достигнута за отведённое число выборок%n", tolerance));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+// src/main/java/com/aussieinvader/core/MonteCarloStudy.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+// Оценка вероятности побить рекорд (447.04 м/с) при неопределённых параметрах методом Монте-Карло.
+// Выборка идёт волнами по WAVE_BATCHES пакетов; у каждого пакета свой SplittableRandom, отщеплённый
+// от главного в потоке-координаторе, и пакет решается BatchRK4 целиком. Пакеты сводятся в частичные
+// статистики (Уэлфорд, эскиз квантилей, число превышений), которые объединяются по порядку пакетов, —
+// при одинаковом seed результат не зависит от числа потоков. Значения выборки не хранятся.
+// Останавливаемся, когда полуширина доверительного интервала вероятности не больше допуска.
+public class MonteCarloStudy {
+
+    private static final int BATCH_SIZE = 128;
+    private static final int WAVE_BATCHES = 32;
+    // Меньше этого интервал Уилсона при p около 0 или 1 ещё ненадёжен
+    private static final long MIN_SAMPLES = 1000;
+    // Столько раз подряд выборка может дать недопустимый набор (например, M_FINAL ≥ M0)
+    private static final int MAX_ATTEMPTS = 1000;
+    private static final double QUANTILE_ACCURACY = 0.001;
+    static final double Z_95 = 1.959963984540054;
+
+    private final VehicleParameters base;
+    private final Map<Parameter, Distribution> distributions;
+    private final ForkJoinPool pool;
+
+    public MonteCarloStudy(VehicleParameters base) {
+        this(base, new EnumMap<>(Parameter.class), ForkJoinPool.commonPool());
+    }
+
+    private MonteCarloStudy(VehicleParameters base, Map<Parameter, Distribution> distributions, ForkJoinPool pool) {
+        this.base = base;
+        this.distributions = distributions;
+        this.pool = pool;
+    }
+
+    // Неопределённые по умолчанию входы — BETA, MU и U — с нормальным разбросом σ = spread·значение
+    public static MonteCarloStudy relativeUncertainty(VehicleParameters base, double spread) {
+        return new MonteCarloStudy(base)
+                .vary(Parameter.BETA, Distribution.relative(base.beta, spread))
+                .vary(Parameter.MU, Distribution.relative(base.mu, spread))
+                .vary(Parameter.U, Distribution.relative(base.u, spread));
+    }
+
+    public MonteCarloStudy vary(Parameter parameter, Distribution distribution) {
+        Map<Parameter, Distribution> next = new EnumMap<>(Parameter.class);
+        next.putAll(distributions);
+        if (next.put(parameter, distribution) != null) {
+            throw new IllegalArgumentException("Параметр уже варьируется: " + parameter.getLabel());
+        }
+        return new MonteCarloStudy(base, next, pool);
+    }
+
+    public MonteCarloStudy withPool(ForkJoinPool pool) {
+        return new MonteCarloStudy(base, distributions, pool);
+    }
+
+    public VehicleParameters getBase() { return base; }
+    public Map<Parameter, Distribution> getDistributions() { return Collections.unmodifiableMap(distributions); }
+
+    // tolerance — допустимая полуширина 95%-го интервала вероятности; 0 — считать все maxSamples
+    public MonteCarloReport run(int steps, long maxSamples, double tolerance, long seed) {
+        return run(steps, maxSamples, tolerance, seed, () -> true);
+    }
+
+    // isCurrent проверяется перед каждой волной: когда он ложен, выборка бросается с CancellationException
+    public MonteCarloReport run(int steps, long maxSamples, double tolerance, long seed, BooleanSupplier isCurrent) {
+        if (steps <= 0 || maxSamples <= 0) {
+            throw new IllegalArgumentException("steps и maxSamples должны быть положительными");
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("Допуск не может быть отрицательным: " + tolerance);
+        }
+        BatchRK4 integrator = BatchRK4.getDefault();
+        SplittableRandom master = new SplittableRandom(seed);
+        Partial total = new Partial();
+        long start = System.nanoTime();
+        boolean converged = false;
+
+        while (total.stats.getCount() < maxSamples) {
+            if (!isCurrent.getAsBoolean()) {
+                throw new CancellationException("Оценка Монте-Карло больше не нужна");
+            }
+            List<Callable<Partial>> tasks = new ArrayList<>(WAVE_BATCHES);
+            long planned = total.stats.getCount();
+            for (int b = 0; b < WAVE_BATCHES && planned < maxSamples; b++) {
+                int size = (int) Math.min(BATCH_SIZE, maxSamples - planned);
+                planned += size;
+                SplittableRandom rng = master.split();
+                tasks.add(() -> runBatch(integrator, rng, size, steps));
+            }
+            for (Future<Partial> future : pool.invokeAll(tasks)) {
+                total.merge(join(future));
+            }
+            long n = total.stats.getCount();
+            if (tolerance > 0 && n >= MIN_SAMPLES
+                    && MonteCarloReport.wilsonHalfWidth(total.exceeded, n, Z_95) <= tolerance) {
+                converged = true;
+                break;
+            }
+        }
+        return new MonteCarloReport(distributions, steps, tolerance, total.stats, total.sketch, total.exceeded,
+                total.rejected, converged, System.nanoTime() - start);
+    }
+
+    private Partial runBatch(BatchRK4 integrator, SplittableRandom rng, int size, int steps) {
+        Partial partial = new Partial();
+        VehicleParameters[] params = new VehicleParameters[size];
+        for (int i = 0; i < size; i++) {
+            params[i] = sample(rng, partial);
+        }
+        double[] maxVelocity = new double[size];
+        if (base.isStandardModel()) {
+            BatchState state = new BatchState(params, steps);
+            SolverMetrics.Probe probe = SolverMetrics.begin(SolverMetrics.Phase.BATCH_RK4);
+            integrator.integrate(state, steps);
+            long laneSteps = (long) size * steps;
+            probe.end(laneSteps, 0, 4 * laneSteps);
+            for (int i = 0; i < size; i++) {
+                maxVelocity[i] = state.getMaxVelocity(i);
+            }
+        } else {
+            // Пакет развёрнут под стандартную модель сил; другую считаем по одной траектории
+            for (int i = 0; i < size; i++) {
+                MaxTracker tracker = new MaxTracker();
+                NumericalSolver.solveRK4(params[i], steps, tracker);
+                maxVelocity[i] = tracker.getMaxVelocity();
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            double v = maxVelocity[i];
+            partial.stats.add(v);
+            partial.sketch.add(v);
+            if (v > PhysicsModel.RECORD_VELOCITY) {
+                partial.exceeded++;
+            }
+        }
+        return partial;
+    }
+
+    // Недопустимые сочетания отбрасываются: выборка идёт из распределения, усечённого до допустимых наборов
+    private VehicleParameters sample(SplittableRandom rng, Partial partial) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            VehicleParameters p = base;
+            try {
+                for (Map.Entry<Parameter, Distribution> e : distributions.entrySet()) {
+                    p = e.getKey().with(p, e.getValue().sample(rng));
+                }
+                return p;
+            } catch (IllegalArgumentException e) {
+                partial.rejected++;
+            }
+        }
+        throw new IllegalArgumentException("Распределения почти не дают допустимых наборов параметров: "
+                + distributions);
+    }
+
+    private static Partial join(Future<Partial> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Расчёт Монте-Карло прерван", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка в пакете Монте-Карло", e.getCause());
+        }
+    }
+
+    private static final class Partial {
+        final RunningStats stats = new RunningStats();
+        final QuantileSketch sketch = new QuantileSketch(QUANTILE_ACCURACY);
+        long exceeded;
+        long rejected;
+
+        void merge(Partial other) {
+            stats.merge(other.stats);
+            sketch.merge(other.sketch);
+            exceeded += other.exceeded;
+            rejected += other.rejected;
+        }
+    }
+}
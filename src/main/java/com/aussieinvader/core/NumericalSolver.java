@@ -1,65 +1,177 @@
 // src/main/java/com/aussieinvader/core/NumericalSolver.java
 package com.aussieinvader.core;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class NumericalSolver {
 
+    // Индексы компонент вектора состояния {t, v, m}
+    private static final int T = 0;
+    private static final int V = 1;
+    private static final int M = 2;
+
     public static SimulationResult solveEuler(int steps) {
-        return solve(steps, "Метод Эйлера", NumericalSolver::eulerStep);
+        return solveEuler(VehicleParameters.DEFAULT, steps);
+    }
+
+    public static SimulationResult solveEuler(VehicleParameters params, int steps) {
+        return solve(params, steps, "Метод Эйлера", SolverMetrics.Phase.EULER, 1, NumericalSolver::eulerStep);
+    }
+
+    // Потоковый вариант: точки уходят в приёмник, траектория не хранится
+    public static SolverStats solveEuler(VehicleParameters params, int steps, TrajectorySink sink) {
+        return integrate(params, steps, SolverMetrics.Phase.EULER, 1, NumericalSolver::eulerStep, sink);
+    }
+
+    // С поиском событий (максимум скорости, рекорд, выгорание); storeTrajectory == false — только события
+    public static SimulationResult solveEulerWithEvents(VehicleParameters params, int steps, boolean storeTrajectory) {
+        return solveWithEvents(params, steps, "Метод Эйлера", SolverMetrics.Phase.EULER, 1, NumericalSolver::eulerStep, storeTrajectory, null);
+    }
+
+    // Траектория сохраняется и одновременно передаётся наблюдателю по мере вычисления
+    public static SimulationResult solveEulerWithEvents(VehicleParameters params, int steps, TrajectorySink observer) {
+        return solveWithEvents(params, steps, "Метод Эйлера", SolverMetrics.Phase.EULER, 1, NumericalSolver::eulerStep, true, observer);
     }
 
     public static SimulationResult solveRK4(int steps) {
-        return solve(steps, "Рунге-Кутта 4", NumericalSolver::rk4Step);
+        return solveRK4(VehicleParameters.DEFAULT, steps);
     }
 
-    private static SimulationResult solve(int steps, String methodName, StepFunction stepFunc) {
-        double tBurn = PhysicsModel.getBurnTime();
-        double dt = tBurn / steps;
+    public static SimulationResult solveRK4(VehicleParameters params, int steps) {
+        return solve(params, steps, "Рунге-Кутта 4", SolverMetrics.Phase.RK4, 4, NumericalSolver::rk4Step);
+    }
+
+    public static SolverStats solveRK4(VehicleParameters params, int steps, TrajectorySink sink) {
+        return integrate(params, steps, SolverMetrics.Phase.RK4, 4, NumericalSolver::rk4Step, sink);
+    }
+
+    public static SimulationResult solveRK4WithEvents(VehicleParameters params, int steps, boolean storeTrajectory) {
+        return solveWithEvents(params, steps, "Рунге-Кутта 4", SolverMetrics.Phase.RK4, 4, NumericalSolver::rk4Step, storeTrajectory, null);
+    }
+
+    public static SimulationResult solveRK4WithEvents(VehicleParameters params, int steps, TrajectorySink observer) {
+        return solveWithEvents(params, steps, "Рунге-Кутта 4", SolverMetrics.Phase.RK4, 4, NumericalSolver::rk4Step, true, observer);
+    }
 
-        List<SimulationResult.DataPoint> data = new ArrayList<>();
-        double t = 0.0, v = 0.0, m = PhysicsModel.M0;
-        data.add(new SimulationResult.DataPoint(t, v, m));
+    // Адаптивный шаг: траектория состоит из принятых шагов
+    public static SimulationResult solveAdaptive(double absTol, double relTol) {
+        return solveAdaptive(VehicleParameters.DEFAULT, absTol, relTol, 0);
+    }
+
+    // Адаптивный шаг с плотной выдачей на равномерную сетку из outputPoints интервалов
+    public static SimulationResult solveAdaptive(double absTol, double relTol, int outputPoints) {
+        return solveAdaptive(VehicleParameters.DEFAULT, absTol, relTol, outputPoints);
+    }
+
+    public static SimulationResult solveAdaptive(VehicleParameters params, double absTol, double relTol, int outputPoints) {
+        Trajectory trajectory = new Trajectory(outputPoints > 0 ? outputPoints + 1 : 64);
+        SolverStats stats = DormandPrince.integrate(params, absTol, relTol, outputPoints, trajectory);
+        return new SimulationResult(trajectory, "Дорманд-Принс 5(4)", stats);
+    }
+
+    public static SolverStats solveAdaptive(VehicleParameters params, double absTol, double relTol, int outputPoints,
+                                            TrajectorySink sink) {
+        return DormandPrince.integrate(params, absTol, relTol, outputPoints, sink);
+    }
+
+    private static SimulationResult solve(VehicleParameters params, int steps, String methodName,
+                                          SolverMetrics.Phase phase, int stages, StepFunction stepFunc) {
+        // Вся память под траекторию выделяется один раз до цикла
+        Trajectory trajectory = new Trajectory(steps + 1);
+        SolverStats stats = integrate(params, steps, phase, stages, stepFunc, trajectory);
+        return new SimulationResult(trajectory, methodName, stats);
+    }
 
-        for (int i = 0; i < steps; i++) {
-            double[] next = stepFunc.step(t, v, m, dt);
-            t = next[0]; v = next[1]; m = next[2];
-            data.add(new SimulationResult.DataPoint(t, v, m));
+    private static SimulationResult solveWithEvents(VehicleParameters params, int steps, String methodName,
+                                                    SolverMetrics.Phase phase, int stages,
+                                                    StepFunction stepFunc, boolean storeTrajectory,
+                                                    TrajectorySink observer) {
+        Trajectory trajectory = new Trajectory(storeTrajectory ? steps + 1 : 0);
+        TrajectorySink downstream = storeTrajectory ? trajectory : null;
+        if (observer != null) {
+            downstream = downstream == null ? observer : (t, v, m) -> {
+                trajectory.add(t, v, m);
+                observer.add(t, v, m);
+            };
         }
+        EventDetector detector = EventDetector.standard(params, downstream);
+        SolverStats stats = integrate(params, steps, phase, stages, stepFunc, null, detector);
+        detector.finish();
+        SolverMetrics.addEvaluations(detector.getEvaluations());
+        stats = new SolverStats(stats.acceptedSteps, stats.rejectedSteps,
+                stats.evaluations + detector.getEvaluations());
+        return new SimulationResult(trajectory, methodName, stats, detector);
+    }
 
-        return new SimulationResult(data, methodName);
+    private static SolverStats integrate(VehicleParameters params, int steps, SolverMetrics.Phase phase, int stages,
+                                         StepFunction stepFunc, TrajectorySink sink) {
+        return integrate(params, steps, phase, stages, stepFunc, sink, null);
     }
 
+    // С детектором событий dv/dt в каждой точке считается сразу после шага: он же k1 следующего шага,
+    // так что детектору наклон достаётся даром, а лишнее вычисление одно — в последней точке
+    private static SolverStats integrate(VehicleParameters params, int steps, SolverMetrics.Phase phase, int stages,
+                                         StepFunction stepFunc, TrajectorySink sink, EventDetector detector) {
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Число шагов должно быть положительным: " + steps);
+        }
+        SolverMetrics.Probe probe = SolverMetrics.begin(phase);
+        double tBurn = params.getBurnTime();
+        double dt = tBurn / steps;
+
+        double[] state = {0.0, 0.0, params.m0};
+        long evaluations = (long) stages * steps;
+        if (detector == null) {
+            sink.add(state[T], state[V], state[M]);
+            for (int i = 0; i < steps; i++) {
+                stepFunc.step(params, state, dt, PhysicsModel.dvdt(params, state[V], state[M]));
+                sink.add(state[T], state[V], state[M]);
+            }
+        } else {
+            double slope = PhysicsModel.dvdt(params, state[V], state[M]);
+            detector.addWithSlope(state[T], state[V], state[M], slope);
+            for (int i = 0; i < steps; i++) {
+                stepFunc.step(params, state, dt, slope);
+                slope = PhysicsModel.dvdt(params, state[V], state[M]);
+                detector.addWithSlope(state[T], state[V], state[M], slope);
+            }
+            evaluations++;
+        }
+
+        SolverStats stats = new SolverStats(steps, 0, evaluations);
+        probe.end(stats);
+        return stats;
+    }
+
+    // Шаг записывает новое состояние в массив вызывающего кода; k1 — dv/dt в текущем состоянии
     @FunctionalInterface
     private interface StepFunction {
-        double[] step(double t, double v, double m, double dt);
+        void step(VehicleParameters p, double[] state, double dt, double k1);
     }
 
-    private static double[] eulerStep(double t, double v, double m, double dt) {
-        double dv = PhysicsModel.dvdt(v, m) * dt;
-        v += dv;
-        m -= PhysicsModel.Q * dt;
-        t += dt;
-        return new double[]{t, v, m};
+    private static void eulerStep(VehicleParameters p, double[] state, double dt, double k1) {
+        double v = state[V], m = state[M];
+        double dv = k1 * dt;
+        state[V] = v + dv;
+        state[M] = m - p.q * dt;
+        state[T] += dt;
     }
 
-    private static double[] rk4Step(double t, double v, double m, double dt) {
-        double k1_v = PhysicsModel.dvdt(v, m);
-        double k1_m = -PhysicsModel.Q;
+    private static void rk4Step(VehicleParameters p, double[] state, double dt, double k1) {
+        double v = state[V], m = state[M];
+
+        double k1_v = k1;
+        double k1_m = -p.q;
 
-        double k2_v = PhysicsModel.dvdt(v + k1_v * dt/2, m + k1_m * dt/2);
-        double k2_m = -PhysicsModel.Q;
+        double k2_v = PhysicsModel.dvdt(p, v + k1_v * dt/2, m + k1_m * dt/2);
+        double k2_m = -p.q;
 
-        double k3_v = PhysicsModel.dvdt(v + k2_v * dt/2, m + k2_m * dt/2);
-        double k3_m = -PhysicsModel.Q;
+        double k3_v = PhysicsModel.dvdt(p, v + k2_v * dt/2, m + k2_m * dt/2);
+        double k3_m = -p.q;
 
-        double k4_v = PhysicsModel.dvdt(v + k3_v * dt, m + k3_m * dt);
-        double k4_m = -PhysicsModel.Q;
+        double k4_v = PhysicsModel.dvdt(p, v + k3_v * dt, m + k3_m * dt);
+        double k4_m = -p.q;
 
-        v += (dt/6) * (k1_v + 2*k2_v + 2*k3_v + k4_v);
-        m += (dt/6) * (k1_m + 2*k2_m + 2*k3_m + k4_m);
-        t += dt;
-        return new double[]{t, v, m};
+        state[V] = v + (dt/6) * (k1_v + 2*k2_v + 2*k3_v + k4_v);
+        state[M] = m + (dt/6) * (k1_m + 2*k2_m + 2*k3_m + k4_m);
+        state[T] += dt;
     }
-}
\ No newline at end of file
+}
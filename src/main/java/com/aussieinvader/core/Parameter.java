@@ -0,0 +1,50 @@
+// src/main/java/com/aussieinvader/core/Parameter.java
+package com.aussieinvader.core;
+
+// Параметр модели, который можно варьировать (имена как в Таблице 1)
+public enum Parameter {
+    M0("M0", "кг"),
+    M_FINAL("M_FINAL", "кг"),
+    Q("Q", "кг/с"),
+    U("U", "м/с"),
+    BETA("BETA", ""),
+    MU("MU", ""),
+    G("G", "м/с²");
+
+    private final String label;
+    private final String unit;
+
+    Parameter(String label, String unit) {
+        this.label = label;
+        this.unit = unit;
+    }
+
+    public String getLabel() { return label; }
+    public String getUnit() { return unit; }
+
+    public double get(VehicleParameters p) {
+        switch (this) {
+            case M0: return p.m0;
+            case M_FINAL: return p.mFinal;
+            case Q: return p.q;
+            case U: return p.u;
+            case BETA: return p.beta;
+            case MU: return p.mu;
+            case G: return p.g;
+            default: throw new AssertionError(this);
+        }
+    }
+
+    public VehicleParameters with(VehicleParameters p, double value) {
+        switch (this) {
+            case M0: return p.withM0(value);
+            case M_FINAL: return p.withMFinal(value);
+            case Q: return p.withQ(value);
+            case U: return p.withU(value);
+            case BETA: return p.withBeta(value);
+            case MU: return p.withMu(value);
+            case G: return p.withG(value);
+            default: throw new AssertionError(this);
+        }
+    }
+}
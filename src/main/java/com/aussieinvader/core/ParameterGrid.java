@@ -0,0 +1,62 @@
+// src/main/java/com/aussieinvader/core/ParameterGrid.java
+package com.aussieinvader.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Декартово произведение диапазонов параметров поверх базового набора.
+// Конфигурации не хранятся: i-я точка сетки восстанавливается по индексу.
+public class ParameterGrid {
+    private final VehicleParameters base;
+    private final List<ParameterRange> ranges;
+    private final int size;
+
+    public ParameterGrid(VehicleParameters base) {
+        this(base, Collections.emptyList());
+    }
+
+    private ParameterGrid(VehicleParameters base, List<ParameterRange> ranges) {
+        this.base = base;
+        this.ranges = ranges;
+        int n = 1;
+        for (ParameterRange range : ranges) {
+            n = Math.multiplyExact(n, range.count);
+        }
+        this.size = n;
+    }
+
+    public ParameterGrid vary(Parameter parameter, double from, double to, int count) {
+        return vary(new ParameterRange(parameter, from, to, count));
+    }
+
+    public ParameterGrid vary(ParameterRange range) {
+        List<ParameterRange> next = new ArrayList<>(ranges.size() + 1);
+        for (ParameterRange r : ranges) {
+            if (r.parameter == range.parameter) {
+                throw new IllegalArgumentException("Параметр уже варьируется: " + range.parameter.getLabel());
+            }
+            next.add(r);
+        }
+        next.add(range);
+        return new ParameterGrid(base, Collections.unmodifiableList(next));
+    }
+
+    public VehicleParameters getBase() { return base; }
+    public List<ParameterRange> getRanges() { return ranges; }
+    public int size() { return size; }
+
+    // Последний диапазон меняется быстрее всех
+    public VehicleParameters get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Индекс " + index + " вне диапазона [0, " + size + ")");
+        }
+        VehicleParameters p = base;
+        for (int r = ranges.size() - 1; r >= 0; r--) {
+            ParameterRange range = ranges.get(r);
+            p = range.parameter.with(p, range.value(index % range.count));
+            index /= range.count;
+        }
+        return p;
+    }
+}
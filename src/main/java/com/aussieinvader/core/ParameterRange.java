@@ -0,0 +1,32 @@
+// src/main/java/com/aussieinvader/core/ParameterRange.java
+package com.aussieinvader.core;
+
+// Равномерная сетка значений одного параметра: count точек от from до to включительно
+public class ParameterRange {
+    public final Parameter parameter;
+    public final double from;
+    public final double to;
+    public final int count;
+
+    public ParameterRange(Parameter parameter, double from, double to, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Число значений должно быть не меньше 1: " + count);
+        }
+        this.parameter = parameter;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public double value(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Индекс " + i + " вне диапазона [0, " + count + ")");
+        }
+        return count == 1 ? from : from + (to - from) * i / (count - 1);
+    }
+
+    @Override
+    public String toString() {
+        return parameter.getLabel() + " ∈ [" + from + ", " + to + "] × " + count;
+    }
+}
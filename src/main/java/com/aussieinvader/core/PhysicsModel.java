@@ -2,7 +2,7 @@
 package com.aussieinvader.core;
 
 public class PhysicsModel {
-    // Параметры из Таблицы 1
+    // Параметры из Таблицы 1 (значения по умолчанию, см. VehicleParameters.DEFAULT)
     public static final double M0 = 9100.0;      // кг
     public static final double M_FINAL = 6300.0; // кг
     public static final double Q = 130.0;        // кг/с
@@ -11,16 +11,34 @@ public class PhysicsModel {
     public static final double MU = 0.5;         // коэф. трения
     public static final double G = 9.81;         // м/с²
 
+    // Рекорд скорости: 1000 миль/ч
+    public static final double RECORD_VELOCITY = 447.04; // м/с
+
     // Производная скорости dv/dt
     public static double dvdt(double v, double m) {
-        double thrust = Q * U / m;
-        double airResistance = BETA * v * v / m;
-        double friction = MU * G;
-        return thrust - airResistance - friction;
+        return dvdt(VehicleParameters.DEFAULT, v, m);
+    }
+
+    // Производная скорости dv/dt для произвольного набора параметров
+    public static double dvdt(VehicleParameters p, double v, double m) {
+        return dvdt(p, v, m, p.getThrustForce());
+    }
+
+    // thrust — текущая сила тяги. Стандартная модель считается здесь же, без вызова через интерфейс;
+    // остальные — через функцию, специализированную под набор параметров (ForceModel.bind)
+    public static double dvdt(VehicleParameters p, double v, double m, double thrust) {
+        ForceModel.Acceleration custom = p.getAcceleration();
+        if (custom != null) {
+            return custom.dvdt(v, m, thrust);
+        }
+        double thrustAcceleration = thrust / m;
+        double airResistance = p.beta * v * v / m;
+        double friction = p.getFrictionAcceleration();
+        return thrustAcceleration - airResistance - friction;
     }
 
     // Время горения
     public static double getBurnTime() {
-        return (M0 - M_FINAL) / Q;
+        return VehicleParameters.DEFAULT.getBurnTime();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+// src/main/java/com/aussieinvader/core/QuantileSketch.java
+package com.aussieinvader.core;
+
+import java.util.Arrays;
+
+// Объединяемый эскиз квантилей с логарифмическими корзинами (как DDSketch):
+// значение x > 0 попадает в корзину ceil(log_γ x), γ = (1+α)/(1−α), и любая квантиль
+// восстанавливается с относительной погрешностью не хуже α. Память — число занятых корзин
+// (для скоростей 1..10^4 м/с при α = 0.001 это несколько тысяч long), а не число значений.
+// Эскизы с одинаковой α объединяются сложением счётчиков.
+public class QuantileSketch {
+    private final double relativeAccuracy;
+    private final double logGamma;
+
+    private long[] counts = new long[0];
+    private int offset;         // индекс корзины counts[0]
+    private long zeroCount;     // значения ≤ 0
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Относительная точность должна быть в (0, 1): " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    public void add(double x) {
+        count++;
+        if (!(x > 0)) {
+            zeroCount++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(x) / logGamma);
+        ensureIndex(index);
+        counts[index - offset]++;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Эскизы с разной точностью не объединяются: "
+                    + relativeAccuracy + " и " + other.relativeAccuracy);
+        }
+        count += other.count;
+        zeroCount += other.zeroCount;
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                int index = other.offset + i;
+                ensureIndex(index);
+                counts[index - offset] += other.counts[i];
+            }
+        }
+    }
+
+    private void ensureIndex(int index) {
+        if (counts.length == 0) {
+            counts = new long[16];
+            offset = index - 8;
+        } else if (index < offset) {
+            int grow = Math.max(offset - index, counts.length);
+            long[] next = new long[counts.length + grow];
+            System.arraycopy(counts, 0, next, grow, counts.length);
+            counts = next;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length * 2));
+        }
+    }
+
+    // q ∈ [0, 1]; NaN для пустого эскиза
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Квантиль вне [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                // Середина корзины (γ^(i−1), γ^i] в смысле относительной погрешности
+                return 2 * Math.exp((offset + i) * logGamma) / (1 + Math.exp(logGamma));
+            }
+        }
+        throw new AssertionError("ранг " + rank + " за пределами " + count);
+    }
+
+    public long getCount() { return count; }
+    public double getRelativeAccuracy() { return relativeAccuracy; }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/aussieinvader/core/RootFinder.java
+package com.aussieinvader.core;
+
+import java.util.function.DoubleUnaryOperator;
+
+// Метод Брента: обратная квадратичная интерполяция и секущие с гарантированным делением пополам
+final class RootFinder {
+    private static final int MAX_ITERATIONS = 100;
+
+    private RootFinder() {
+    }
+
+    // Корень f на [a, b] при условии, что fa и fb разных знаков (или один из них равен нулю)
+    static double brent(DoubleUnaryOperator f, double a, double b, double fa, double fb, double tolerance) {
+        if (fa == 0) return a;
+        if (fb == 0) return b;
+        if ((fa > 0) == (fb > 0)) {
+            throw new IllegalArgumentException("Корень не отделён на [" + a + ", " + b + "]");
+        }
+        double c = a, fc = fa;
+        double d = b - a, e = d;
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            if ((fb > 0) == (fc > 0)) {
+                c = a;
+                fc = fa;
+                d = e = b - a;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b; b = c; c = a;
+                fa = fb; fb = fc; fc = fa;
+            }
+            double tol = 2 * Math.ulp(b) + 0.5 * tolerance;
+            double m = 0.5 * (c - b);
+            if (Math.abs(m) <= tol || fb == 0) {
+                return b;
+            }
+            if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+                double s = fb / fa, p, q;
+                if (a == c) {
+                    // Секущая
+                    p = 2 * m * s;
+                    q = 1 - s;
+                } else {
+                    // Обратная квадратичная интерполяция
+                    double qa = fa / fc, r = fb / fc;
+                    p = s * (2 * m * qa * (qa - r) - (b - a) * (r - 1));
+                    q = (qa - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) q = -q; else p = -p;
+                if (2 * p < Math.min(3 * m * q - Math.abs(tol * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = m;
+                    e = m;
+                }
+            } else {
+                d = m;
+                e = m;
+            }
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tol ? d : (m > 0 ? tol : -tol);
+            fb = f.applyAsDouble(b);
+        }
+        return b;
+    }
+}
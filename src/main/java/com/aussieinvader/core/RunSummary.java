@@ -0,0 +1,25 @@
+// src/main/java/com/aussieinvader/core/RunSummary.java
+package com.aussieinvader.core;
+
+// Краткий итог одного прогона: только то, что нужно для анализа, без траектории
+public class RunSummary {
+    public final int index;
+    public final VehicleParameters params;
+    public final double maxVelocity;
+    public final double timeOfMaxVelocity;
+    public final boolean recordBroken;
+
+    public RunSummary(int index, VehicleParameters params, double maxVelocity, double timeOfMaxVelocity) {
+        this.index = index;
+        this.params = params;
+        this.maxVelocity = maxVelocity;
+        this.timeOfMaxVelocity = timeOfMaxVelocity;
+        this.recordBroken = maxVelocity > PhysicsModel.RECORD_VELOCITY;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + params + "] vmax = " + maxVelocity + " м/с при t = " + timeOfMaxVelocity + " с"
+                + (recordBroken ? " — рекорд" : "");
+    }
+}
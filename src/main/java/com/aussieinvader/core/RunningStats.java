@@ -0,0 +1,54 @@
+// src/main/java/com/aussieinvader/core/RunningStats.java
+package com.aussieinvader.core;
+
+// Потоковые среднее и дисперсия (алгоритм Уэлфорда) без хранения выборки.
+// Частичные результаты параллельных задач объединяются формулой Чана.
+public class RunningStats {
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double x) {
+        count++;
+        double delta = x - mean;
+        mean += delta / count;
+        m2 += delta * (x - mean);
+        if (x < min) min = x;
+        if (x > max) max = x;
+    }
+
+    public void merge(RunningStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / n;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / n);
+        count = n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return count == 0 ? Double.NaN : mean; }
+    public double getVariance() { return count < 2 ? Double.NaN : m2 / (count - 1); }
+    public double getStandardDeviation() { return Math.sqrt(getVariance()); }
+    public double getMin() { return count == 0 ? Double.NaN : min; }
+    public double getMax() { return count == 0 ? Double.NaN : max; }
+
+    // Полуширина доверительного интервала среднего (нормальное приближение)
+    public double getMeanHalfWidth(double z) {
+        return count < 2 ? Double.POSITIVE_INFINITY : z * getStandardDeviation() / Math.sqrt(count);
+    }
+}
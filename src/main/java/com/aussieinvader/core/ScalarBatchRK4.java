@@ -0,0 +1,53 @@
+// src/main/java/com/aussieinvader/core/ScalarBatchRK4.java
+package com.aussieinvader.core;
+
+// Скалярная реализация: те же операции в том же порядке, что и в векторной, включая fma,
+// поэтому дорожка даёт тот же результат до бита, что и в векторной группе (и хвост пакета тоже)
+final class ScalarBatchRK4 extends BatchRK4 {
+
+    @Override
+    public String getName() { return "scalar"; }
+
+    @Override
+    public int getLaneCount() { return 1; }
+
+    @Override
+    public void integrate(BatchState s, int steps) {
+        for (int i = 0; i < s.size; i++) {
+            integrateLane(s, i, steps);
+        }
+    }
+
+    static void integrateLane(BatchState s, int i, int steps) {
+        double thrust = s.thrust[i], beta = s.beta[i], friction = s.friction[i];
+        double dt = s.dt[i], half = dt * 0.5, sixth = dt / 6.0;
+        double dmHalf = s.q[i] * half, dm = s.q[i] * dt;
+        double v = s.velocity[i], m = s.mass[i];
+        double maxV = 0, tMax = 0;
+
+        for (int k = 1; k <= steps; k++) {
+            double mHalf = m - dmHalf, mEnd = m - dm;
+            double k1 = dvdt(thrust, beta, friction, v, m);
+            double k2 = dvdt(thrust, beta, friction, Math.fma(k1, half, v), mHalf);
+            double k3 = dvdt(thrust, beta, friction, Math.fma(k2, half, v), mHalf);
+            double k4 = dvdt(thrust, beta, friction, Math.fma(k3, dt, v), mEnd);
+            double sum = k1 + (k2 + k3) * 2.0 + k4;
+            v = Math.fma(sum, sixth, v);
+            m = mEnd;
+            if (v > maxV) {
+                maxV = v;
+                tMax = k * dt;
+            }
+        }
+
+        s.velocity[i] = v;
+        s.mass[i] = m;
+        s.maxVelocity[i] = maxV;
+        s.timeOfMaxVelocity[i] = tMax;
+    }
+
+    // (Q·U − β·v²)/m − μ·g, как VectorBatchRK4.dvdt
+    private static double dvdt(double thrust, double beta, double friction, double v, double m) {
+        return Math.fma(-(beta * v), v, thrust) / m - friction;
+    }
+}
@@ -0,0 +1,35 @@
+// src/main/java/com/aussieinvader/core/SimulationEvent.java
+package com.aussieinvader.core;
+
+// Найденное событие: момент и состояние в этот момент
+public class SimulationEvent {
+    public final String name;
+    public final double time;
+    public final double velocity;
+    public final double mass;
+    // Пройденный путь, м; NaN, если решатель путь не считает
+    public final double distance;
+
+    public SimulationEvent(String name, double time, double velocity, double mass) {
+        this(name, time, velocity, mass, Double.NaN);
+    }
+
+    public SimulationEvent(String name, double time, double velocity, double mass, double distance) {
+        this.name = name;
+        this.time = time;
+        this.velocity = velocity;
+        this.mass = mass;
+        this.distance = distance;
+    }
+
+    public boolean hasDistance() {
+        return !Double.isNaN(distance);
+    }
+
+    @Override
+    public String toString() {
+        String text = String.format(java.util.Locale.ROOT, "%s: t = %.6f с, v = %.6f м/с, m = %.3f кг",
+                name, time, velocity, mass);
+        return hasDistance() ? text + String.format(java.util.Locale.ROOT, ", x = %.3f м", distance) : text;
+    }
+}
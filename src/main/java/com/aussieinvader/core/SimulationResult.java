@@ -4,37 +4,59 @@ package com.aussieinvader.core;
 import java.util.List;
 
 public class SimulationResult {
-    private final List<DataPoint> data;
+    private final TrajectoryView trajectory;
     private final double maxVelocity;
     private final double timeOfMaxVelocity;
     private final String methodName;
+    private final SolverStats stats;
+    private final List<SimulationEvent> events;
 
-    public SimulationResult(List<DataPoint> data, String methodName) {
-        this.data = data;
+    public SimulationResult(TrajectoryView trajectory, String methodName) {
+        this(trajectory, methodName, SolverStats.NONE);
+    }
+
+    public SimulationResult(TrajectoryView trajectory, String methodName, SolverStats stats) {
+        this.trajectory = trajectory;
+        this.methodName = methodName;
+        this.stats = stats;
+        this.events = List.of();
+        // Максимум уже найден при записи траектории
+        this.maxVelocity = trajectory.getMaxVelocity();
+        this.timeOfMaxVelocity = trajectory.getTimeOfMaxVelocity();
+    }
+
+    // Максимум и события найдены детектором событий; траектория может быть пустой (режим "только события")
+    public SimulationResult(Trajectory trajectory, String methodName, SolverStats stats, EventDetector detector) {
+        this.trajectory = trajectory;
         this.methodName = methodName;
-        // Находим максимум
-        DataPoint max = data.stream()
-                .max((p1, p2) -> Double.compare(p1.velocity, p2.velocity))
-                .orElse(new DataPoint(0, 0, PhysicsModel.M0));
-        this.maxVelocity = max.velocity;
-        this.timeOfMaxVelocity = max.time;
+        this.stats = stats;
+        this.events = detector.getEvents();
+        this.maxVelocity = detector.getMaxVelocity();
+        this.timeOfMaxVelocity = detector.getTimeOfMaxVelocity();
+    }
+
+    // Восстановление сохранённого решения (TrajectoryStore): максимум и события прочитаны вместе с точками
+    SimulationResult(TrajectoryView trajectory, String methodName, SolverStats stats, List<SimulationEvent> events,
+                     double maxVelocity, double timeOfMaxVelocity) {
+        this.trajectory = trajectory;
+        this.methodName = methodName;
+        this.stats = stats;
+        this.events = List.copyOf(events);
+        this.maxVelocity = maxVelocity;
+        this.timeOfMaxVelocity = timeOfMaxVelocity;
     }
 
     // Геттеры
-    public List<DataPoint> getData() { return data; }
+    public TrajectoryView getTrajectory() { return trajectory; }
+    public int size() { return trajectory.size(); }
+    public double getTime(int i) { return trajectory.getTime(i); }
+    public double getVelocity(int i) { return trajectory.getVelocity(i); }
+    public double getMass(int i) { return trajectory.getMass(i); }
+    public boolean hasDistance() { return trajectory.hasDistance(); }
+    public double getDistance(int i) { return trajectory.getDistance(i); }
     public double getMaxVelocity() { return maxVelocity; }
     public double getTimeOfMaxVelocity() { return timeOfMaxVelocity; }
     public String getMethodName() { return methodName; }
-
-    public static class DataPoint {
-        public final double time;
-        public final double velocity;
-        public final double mass;
-
-        public DataPoint(double time, double velocity, double mass) {
-            this.time = time;
-            this.velocity = velocity;
-            this.mass = mass;
-        }
-    }
-}
\ No newline at end of file
+    public SolverStats getStats() { return stats; }
+    public List<SimulationEvent> getEvents() { return events; }
+}
@@ -0,0 +1,253 @@
+// src/main/java/com/aussieinvader/core/SolutionCache.java
+package com.aussieinvader.core;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Кеш готовых решений перед решателями. Ключ — метод, его настройки (шаги, члены ряда, точки, допуски)
+// и набор параметров. Вытеснение LRU по суммарному числу хранимых точек; значения держатся через
+// SoftReference, так что при нехватке памяти сборщик может их освободить.
+// С TrajectoryStore кеш становится двухуровневым: промах в памяти ищется на диске,
+// а новые решения сохраняются туда и возвращаются уже отображёнными в память.
+public class SolutionCache {
+    // 2·10^7 точек ≈ 480 МБ в худшем случае, пока не вмешается сборщик мусора
+    private static final SolutionCache SHARED = new SolutionCache(20_000_000L, openSharedStore());
+
+    private final long maxPoints;
+    private final TrajectoryStore store;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedPoints;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder storeHits = new LongAdder();
+    // Промах по заезду продолжается со снимка недавнего заезда, если это возможно
+    private final MissionHistory missions = new MissionHistory();
+
+    public SolutionCache(long maxPoints) {
+        this(maxPoints, null);
+    }
+
+    public SolutionCache(long maxPoints, TrajectoryStore store) {
+        if (maxPoints <= 0) {
+            throw new IllegalArgumentException("Размер кеша должен быть положительным: " + maxPoints);
+        }
+        this.maxPoints = maxPoints;
+        this.store = store;
+    }
+
+    public static SolutionCache shared() {
+        return SHARED;
+    }
+
+    // -Daussieinvader.store=<каталог> подключает общее дисковое хранилище к shared()
+    private static TrajectoryStore openSharedStore() {
+        String directory = System.getProperty("aussieinvader.store");
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+        try {
+            return TrajectoryStore.open(Path.of(directory));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Хранилище траекторий " + directory + " недоступно: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public TrajectoryStore getStore() { return store; }
+
+    public SimulationResult euler(VehicleParameters p, int steps) {
+        return getOrCompute(new Key("euler", p, steps), () -> NumericalSolver.solveEuler(p, steps));
+    }
+
+    public SimulationResult rk4(VehicleParameters p, int steps) {
+        return getOrCompute(new Key("rk4", p, steps), () -> NumericalSolver.solveRK4(p, steps));
+    }
+
+    public SimulationResult eulerWithEvents(VehicleParameters p, int steps) {
+        return eulerWithEvents(p, steps, null);
+    }
+
+    // observer получает точки, только если решение действительно считается (промах кеша)
+    public SimulationResult eulerWithEvents(VehicleParameters p, int steps, TrajectorySink observer) {
+        return getOrCompute(new Key("euler-events", p, steps),
+                () -> NumericalSolver.solveEulerWithEvents(p, steps, observer));
+    }
+
+    public SimulationResult rk4WithEvents(VehicleParameters p, int steps) {
+        return rk4WithEvents(p, steps, null);
+    }
+
+    public SimulationResult rk4WithEvents(VehicleParameters p, int steps, TrajectorySink observer) {
+        return getOrCompute(new Key("rk4-events", p, steps),
+                () -> NumericalSolver.solveRK4WithEvents(p, steps, observer));
+    }
+
+    public SimulationResult adaptive(VehicleParameters p, double absTol, double relTol, int outputPoints) {
+        return getOrCompute(new Key("adaptive", p, absTol, relTol, outputPoints),
+                () -> NumericalSolver.solveAdaptive(p, absTol, relTol, outputPoints));
+    }
+
+    public SimulationResult analytical(VehicleParameters p, int terms, int plotPoints) {
+        return getOrCompute(new Key("analytical", p, terms, plotPoints),
+                () -> AnalyticalSolver.solve(p, terms, plotPoints));
+    }
+
+    // Заезд целиком (MissionSolver): сценарий наката и торможения входит в настройки ключа
+    public SimulationResult mission(MissionProfile profile, String method, int steps, TrajectorySink observer) {
+        return getOrCompute(missionKey(method, profile, steps),
+                () -> missions.solve(profile, method, steps, observer));
+    }
+
+    public SimulationResult analyticalMission(MissionProfile profile, int terms, int plotPoints) {
+        return getOrCompute(missionKey("analytical", profile, terms, plotPoints),
+                () -> AnalyticalSolver.solveMission(profile, terms, plotPoints));
+    }
+
+    // Ключ заезда: настройки решателя, затем сценарий
+    public static Key missionKey(String method, MissionProfile profile, double... solverSettings) {
+        double[] scenario = profile.settings();
+        double[] settings = Arrays.copyOf(solverSettings, solverSettings.length + scenario.length);
+        System.arraycopy(scenario, 0, settings, solverSettings.length, scenario.length);
+        return new Key("mission-" + method, profile.params, settings);
+    }
+
+    // Решение считается вне блокировки: параллельные промахи по одному ключу
+    // посчитают его дважды, но не задержат остальные запросы
+    public SimulationResult getOrCompute(Key key, Supplier<SimulationResult> solver) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                SimulationResult cached = entry.result.get();
+                if (cached != null) {
+                    hits.increment();
+                    return cached;
+                }
+                // Значение собрано сборщиком мусора
+                remove(key, entry);
+            }
+        }
+        misses.increment();
+        SimulationResult result = store == null ? solver.get() : loadOrSolve(key, solver);
+        put(key, result);
+        return result;
+    }
+
+    // Хранилище — такой же кеш: при ошибке ввода-вывода решение просто считается и отдаётся из кучи
+    private SimulationResult loadOrSolve(Key key, Supplier<SimulationResult> solver) {
+        try {
+            SimulationResult stored = store.load(key);
+            if (stored != null) {
+                storeHits.increment();
+                return stored;
+            }
+        } catch (IOException e) {
+            // пересчитаем
+        }
+        SimulationResult result = solver.get();
+        try {
+            return store.save(key, result);
+        } catch (IOException e) {
+            return result;
+        }
+    }
+
+    private synchronized void put(Key key, SimulationResult result) {
+        // Отображённая траектория лежит вне кучи, но держит открытые файлы и адресное пространство,
+        // поэтому и она весит столько, сколько в ней точек
+        long weight = Math.max(1, result.size());
+        if (weight > maxPoints) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(result, weight));
+        if (previous != null) {
+            storedPoints -= previous.weight;
+        }
+        storedPoints += weight;
+
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (storedPoints > maxPoints && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            storedPoints -= eldest.getValue().weight;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        storedPoints -= entry.weight;
+        evictions.increment();
+    }
+
+    public MissionHistory getMissionHistory() { return missions; }
+
+    public synchronized void clear() {
+        entries.clear();
+        storedPoints = 0;
+        missions.clear();
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getStoreHits() { return storeHits.sum(); }
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getStoredPoints() { return storedPoints; }
+
+    @Override
+    public String toString() {
+        return "попаданий: " + getHits() + ", промахов: " + getMisses() + ", вытеснено: " + getEvictions()
+                + ", записей: " + size() + ", точек: " + getStoredPoints()
+                + (store == null ? "" : ", с диска: " + getStoreHits() + " (" + store + ")")
+                + (missions.getResumed() == 0 ? "" : "; заезды: " + missions);
+    }
+
+    private static final class Entry {
+        final SoftReference<SimulationResult> result;
+        final long weight;
+
+        Entry(SimulationResult result, long weight) {
+            this.result = new SoftReference<>(result);
+            this.weight = weight;
+        }
+    }
+
+    // Ключ: имя метода, набор параметров и числовые настройки метода
+    public static final class Key {
+        private final String method;
+        private final VehicleParameters params;
+        private final double[] settings;
+
+        public Key(String method, VehicleParameters params, double... settings) {
+            this.method = method;
+            this.params = params;
+            this.settings = settings.clone();
+        }
+
+        public String getMethod() { return method; }
+        public VehicleParameters getParams() { return params; }
+        public double[] getSettings() { return settings.clone(); }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return method.equals(k.method) && params.equals(k.params) && Arrays.equals(settings, k.settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * method.hashCode() + params.hashCode()) + Arrays.hashCode(settings);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+// src/main/java/com/aussieinvader/core/SolveEvent.java
+package com.aussieinvader.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Событие JFR на одно решение; записывается, только если включено в настройках записи,
+// например: -XX:StartFlightRecording:settings=profile
+@Name("com.aussieinvader.Solve")
+@Label("Решение")
+@Category({"Aussie Invader", "Решатели"})
+@Description("Одно решение задачи: метод, шаги и вычисления dv/dt")
+@StackTrace(false)
+final class SolveEvent extends jdk.jfr.Event {
+    @Label("Метод")
+    String method;
+
+    @Label("Принятые шаги")
+    long acceptedSteps;
+
+    @Label("Отклонённые шаги")
+    long rejectedSteps;
+
+    @Label("Вычисления dv/dt")
+    long evaluations;
+}
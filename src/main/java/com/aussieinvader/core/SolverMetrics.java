@@ -0,0 +1,215 @@
+// src/main/java/com/aussieinvader/core/SolverMetrics.java
+package com.aussieinvader.core;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Счётчики работы решателей за время жизни процесса: вычисления dv/dt, шаги, члены рядов и время по фазам.
+// Обновляются один раз на решение (а не на каждый шаг) через LongAdder, поэтому параллельные
+// перебор и исследование сходимости не конкурируют за один счётчик.
+// -Daussieinvader.metrics=false отключает счётчики и события JFR: проверка ENABLED — константа,
+// и JIT убирает инструментирование целиком.
+public final class SolverMetrics {
+
+    public static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("aussieinvader.metrics"));
+
+    public static final String OBJECT_NAME = "com.aussieinvader:type=SolverMetrics";
+
+    // Фаза — способ решения; у каждой свои число решений и суммарное время
+    public enum Phase {
+        EULER("Метод Эйлера"),
+        RK4("Рунге-Кутта 4"),
+        ADAPTIVE("Дорманд-Принс 5(4)"),
+        ANALYTICAL("Аналитическое"),
+        BATCH_RK4("Пакетный RK4");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final LongAdder EVALUATIONS = new LongAdder();
+    private static final LongAdder ACCEPTED_STEPS = new LongAdder();
+    private static final LongAdder REJECTED_STEPS = new LongAdder();
+    private static final LongAdder SERIES_TERMS = new LongAdder();
+    private static final Map<Phase, LongAdder> SOLVES = counters();
+    private static final Map<Phase, LongAdder> NANOS = counters();
+
+    private static final Probe NO_PROBE = new Probe(null, 0, null);
+
+    private SolverMetrics() {
+    }
+
+    private static Map<Phase, LongAdder> counters() {
+        Map<Phase, LongAdder> map = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            map.put(phase, new LongAdder());
+        }
+        return map;
+    }
+
+    // Начало решения; парный вызов — Probe.end
+    static Probe begin(Phase phase) {
+        if (!ENABLED) {
+            return NO_PROBE;
+        }
+        SolveEvent event = new SolveEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        } else {
+            event = null;
+        }
+        return new Probe(phase, System.nanoTime(), event);
+    }
+
+    // Вычисления dv/dt вне шагов решателя (уточнение событий внутри шага)
+    static void addEvaluations(long evaluations) {
+        if (ENABLED) {
+            EVALUATIONS.add(evaluations);
+        }
+    }
+
+    // Вычисления членов ряда: длина ряда × число точек, в которых он просуммирован
+    static void addSeriesTerms(long terms) {
+        if (ENABLED) {
+            SERIES_TERMS.add(terms);
+        }
+    }
+
+    // Незавершённое измерение одного решения
+    static final class Probe {
+        private final Phase phase;
+        private final long start;
+        private final SolveEvent event;
+
+        private Probe(Phase phase, long start, SolveEvent event) {
+            this.phase = phase;
+            this.start = start;
+            this.event = event;
+        }
+
+        void end(SolverStats stats) {
+            end(stats.acceptedSteps, stats.rejectedSteps, stats.evaluations);
+        }
+
+        void end(long accepted, long rejected, long evaluations) {
+            if (phase == null) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            SOLVES.get(phase).increment();
+            NANOS.get(phase).add(elapsed);
+            ACCEPTED_STEPS.add(accepted);
+            REJECTED_STEPS.add(rejected);
+            EVALUATIONS.add(evaluations);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.method = phase.name();
+                    event.acceptedSteps = accepted;
+                    event.rejectedSteps = rejected;
+                    event.evaluations = evaluations;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    public static long getEvaluations() { return EVALUATIONS.sum(); }
+    public static long getAcceptedSteps() { return ACCEPTED_STEPS.sum(); }
+    public static long getRejectedSteps() { return REJECTED_STEPS.sum(); }
+    public static long getSeriesTerms() { return SERIES_TERMS.sum(); }
+    public static long getSolves(Phase phase) { return SOLVES.get(phase).sum(); }
+    public static long getNanos(Phase phase) { return NANOS.get(phase).sum(); }
+
+    public static void reset() {
+        EVALUATIONS.reset();
+        ACCEPTED_STEPS.reset();
+        REJECTED_STEPS.reset();
+        SERIES_TERMS.reset();
+        SOLVES.values().forEach(LongAdder::reset);
+        NANOS.values().forEach(LongAdder::reset);
+    }
+
+    // Регистрирует MXBean в платформенном MBeanServer; повторный вызов ничего не делает
+    public static void registerMBean() {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBeanImpl(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // уже зарегистрирован
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать " + OBJECT_NAME, e);
+        }
+    }
+
+    // Текстовая сводка для отчёта GUI и stderr консольного режима
+    public static String dump() {
+        if (!ENABLED) {
+            return "Метрики отключены (-Daussieinvader.metrics=false)\n";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "вычислений dv/dt: %d, шагов: %d (отклонено %d), членов ряда: %d%n",
+                getEvaluations(), getAcceptedSteps(), getRejectedSteps(), getSeriesTerms()));
+        for (Phase phase : Phase.values()) {
+            long solves = getSolves(phase);
+            if (solves == 0) continue;
+            double millis = getNanos(phase) / 1e6;
+            sb.append(String.format(Locale.ROOT, "  %s: решений %d, %.3f мс (%.3f мс на решение)%n",
+                    phase.getLabel(), solves, millis, millis / solves));
+        }
+        return sb.toString();
+    }
+
+    public interface SolverMetricsMXBean {
+        long getEvaluations();
+        long getAcceptedSteps();
+        long getRejectedSteps();
+        long getSeriesTerms();
+        Map<String, Long> getSolves();
+        Map<String, Long> getMillis();
+        String getSummary();
+        void reset();
+    }
+
+    private static final class MXBeanImpl implements SolverMetricsMXBean {
+        @Override public long getEvaluations() { return SolverMetrics.getEvaluations(); }
+        @Override public long getAcceptedSteps() { return SolverMetrics.getAcceptedSteps(); }
+        @Override public long getRejectedSteps() { return SolverMetrics.getRejectedSteps(); }
+        @Override public long getSeriesTerms() { return SolverMetrics.getSeriesTerms(); }
+        @Override public String getSummary() { return dump(); }
+        @Override public void reset() { SolverMetrics.reset(); }
+
+        @Override
+        public Map<String, Long> getSolves() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                map.put(phase.name(), SolverMetrics.getSolves(phase));
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Long> getMillis() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                map.put(phase.name(), SolverMetrics.getNanos(phase) / 1_000_000);
+            }
+            return map;
+        }
+    }
+}
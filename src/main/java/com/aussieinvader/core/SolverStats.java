@@ -0,0 +1,22 @@
+// src/main/java/com/aussieinvader/core/SolverStats.java
+package com.aussieinvader.core;
+
+// Сколько работы потребовало решение: шаги и вычисления правой части dv/dt
+public class SolverStats {
+    public static final SolverStats NONE = new SolverStats(0, 0, 0);
+
+    public final int acceptedSteps;
+    public final int rejectedSteps;
+    public final long evaluations;
+
+    public SolverStats(int acceptedSteps, int rejectedSteps, long evaluations) {
+        this.acceptedSteps = acceptedSteps;
+        this.rejectedSteps = rejectedSteps;
+        this.evaluations = evaluations;
+    }
+
+    @Override
+    public String toString() {
+        return "шагов: " + acceptedSteps + " (отклонено " + rejectedSteps + "), вычислений dv/dt: " + evaluations;
+    }
+}
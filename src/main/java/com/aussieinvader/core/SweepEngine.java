@@ -0,0 +1,130 @@
+// src/main/java/com/aussieinvader/core/SweepEngine.java
+package com.aussieinvader.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Параллельный перебор сетки параметров на ForkJoinPool.
+// Каждый прогон сводится к RunSummary через MaxTracker, траектории не сохраняются.
+public class SweepEngine {
+
+    // Сколько листовых задач приходится на поток: запас для перехвата работы (work stealing)
+    private static final int TASKS_PER_THREAD = 8;
+    // Минимальный размер пакета для BatchRK4, чтобы векторные группы были заполнены
+    private static final int MIN_BATCH_LANES = 16;
+
+    private final ForkJoinPool pool;
+
+    public SweepEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SweepEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SweepReport runEuler(ParameterGrid grid, int steps) {
+        return run(grid, "Метод Эйлера", (p, sink) -> NumericalSolver.solveEuler(p, steps, sink));
+    }
+
+    // RK4 по всей сетке: листовые задачи продвигают свои наборы параметров пакетом (BatchRK4).
+    // Пакет развёрнут под стандартную модель сил; с другой моделью — по одной траектории.
+    public SweepReport runRK4(ParameterGrid grid, int steps) {
+        if (!grid.getBase().isStandardModel()) {
+            return runRK4Scalar(grid, steps);
+        }
+        BatchRK4 integrator = BatchRK4.getDefault();
+        return run(grid, "Рунге-Кутта 4 (" + integrator.getName() + ")",
+                Math.max(MIN_BATCH_LANES, integrator.getLaneCount() * 4),
+                (g, from, to, out) -> {
+                    VehicleParameters[] params = new VehicleParameters[to - from];
+                    for (int i = from; i < to; i++) {
+                        params[i - from] = g.get(i);
+                    }
+                    BatchState state = new BatchState(params, steps);
+                    SolverMetrics.Probe probe = SolverMetrics.begin(SolverMetrics.Phase.BATCH_RK4);
+                    integrator.integrate(state, steps);
+                    long laneSteps = (long) params.length * steps;
+                    probe.end(laneSteps, 0, 4 * laneSteps);
+                    for (int i = from; i < to; i++) {
+                        int lane = i - from;
+                        out[i] = new RunSummary(i, params[lane],
+                                state.getMaxVelocity(lane), state.getTimeOfMaxVelocity(lane));
+                    }
+                });
+    }
+
+    // RK4 по одной траектории за раз через NumericalSolver
+    public SweepReport runRK4Scalar(ParameterGrid grid, int steps) {
+        return run(grid, "Рунге-Кутта 4", (p, sink) -> NumericalSolver.solveRK4(p, steps, sink));
+    }
+
+    public SweepReport runAnalytical(ParameterGrid grid, int terms, int plotPoints) {
+        return run(grid, "Аналитическое (" + terms + " членов)",
+                (p, sink) -> AnalyticalSolver.solve(p, terms, plotPoints, sink));
+    }
+
+    public SweepReport run(ParameterGrid grid, String methodName, Evaluator evaluator) {
+        return run(grid, methodName, 1, (g, from, to, out) -> {
+            for (int i = from; i < to; i++) {
+                VehicleParameters p = g.get(i);
+                MaxTracker tracker = new MaxTracker();
+                evaluator.evaluate(p, tracker);
+                out[i] = new RunSummary(i, p, tracker.getMaxVelocity(), tracker.getTimeOfMaxVelocity());
+            }
+        });
+    }
+
+    private SweepReport run(ParameterGrid grid, String methodName, int minChunk, ChunkRunner runner) {
+        int n = grid.size();
+        RunSummary[] summaries = new RunSummary[n];
+        int threshold = Math.max(minChunk, n / (pool.getParallelism() * TASKS_PER_THREAD));
+
+        long start = System.nanoTime();
+        pool.invoke(new SweepTask(grid, runner, summaries, 0, n, threshold));
+        long elapsed = System.nanoTime() - start;
+
+        return new SweepReport(methodName, summaries, elapsed, pool.getParallelism());
+    }
+
+    // Один прогон: решатель передаёт точки в приёмник
+    @FunctionalInterface
+    public interface Evaluator {
+        void evaluate(VehicleParameters params, TrajectorySink sink);
+    }
+
+    // Обработка непрерывного отрезка индексов сетки [from, to) в листовой задаче
+    @FunctionalInterface
+    private interface ChunkRunner {
+        void run(ParameterGrid grid, int from, int to, RunSummary[] out);
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+        private final ParameterGrid grid;
+        private final ChunkRunner runner;
+        private final RunSummary[] summaries;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SweepTask(ParameterGrid grid, ChunkRunner runner, RunSummary[] summaries, int from, int to, int threshold) {
+            this.grid = grid;
+            this.runner = runner;
+            this.summaries = summaries;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                runner.run(grid, from, to, summaries);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(grid, runner, summaries, from, mid, threshold),
+                    new SweepTask(grid, runner, summaries, mid, to, threshold));
+        }
+    }
+}
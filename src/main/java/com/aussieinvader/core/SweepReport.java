@@ -0,0 +1,50 @@
+// src/main/java/com/aussieinvader/core/SweepReport.java
+package com.aussieinvader.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SweepReport {
+    private final String methodName;
+    private final List<RunSummary> summaries;
+    private final long elapsedNanos;
+    private final int parallelism;
+    private final int recordBreakingCount;
+    private final RunSummary best;
+
+    SweepReport(String methodName, RunSummary[] summaries, long elapsedNanos, int parallelism) {
+        this.methodName = methodName;
+        this.summaries = Collections.unmodifiableList(Arrays.asList(summaries));
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+
+        int broken = 0;
+        RunSummary max = null;
+        for (RunSummary s : summaries) {
+            if (s.recordBroken) broken++;
+            if (max == null || s.maxVelocity > max.maxVelocity) max = s;
+        }
+        this.recordBreakingCount = broken;
+        this.best = max;
+    }
+
+    public String getMethodName() { return methodName; }
+    public List<RunSummary> getSummaries() { return summaries; }
+    public int getRunCount() { return summaries.size(); }
+    public int getRecordBreakingCount() { return recordBreakingCount; }
+    public RunSummary getBest() { return best; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getParallelism() { return parallelism; }
+
+    public double getRunsPerSecond() {
+        return elapsedNanos == 0 ? 0 : summaries.size() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d прогонов за %.3f с (%.0f прогонов/с, потоков: %d), рекорд побит в %d",
+                methodName, summaries.size(), elapsedNanos / 1e9, getRunsPerSecond(), parallelism,
+                recordBreakingCount);
+    }
+}
@@ -0,0 +1,82 @@
+// src/main/java/com/aussieinvader/core/Trajectory.java
+package com.aussieinvader.core;
+
+import java.util.Arrays;
+
+// Траектория в виде структуры массивов: отдельные примитивные столбцы t, v, m.
+// Ёмкость задаётся заранее по числу шагов, поэтому решение не создаёт объектов на каждую точку.
+public class Trajectory implements TrajectorySink, TrajectoryView {
+    private double[] time;
+    private double[] velocity;
+    private double[] mass;
+    // Пройденный путь — только у многофазного расчёта (MissionSolver); иначе null
+    private double[] distance;
+    private int size;
+
+    // Максимум скорости отслеживается по ходу записи, без повторного прохода
+    private double maxVelocity = Double.NEGATIVE_INFINITY;
+    private double timeOfMaxVelocity;
+
+    public Trajectory(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Ёмкость не может быть отрицательной: " + capacity);
+        }
+        this.time = new double[capacity];
+        this.velocity = new double[capacity];
+        this.mass = new double[capacity];
+    }
+
+    @Override
+    public void add(double t, double v, double m) {
+        if (size == time.length) {
+            grow();
+        }
+        time[size] = t;
+        velocity[size] = v;
+        mass[size] = m;
+        size++;
+        if (v > maxVelocity) {
+            maxVelocity = v;
+            timeOfMaxVelocity = t;
+        }
+    }
+
+    // Точка с пройденным путём; столбец пути заводится при первом таком вызове
+    @Override
+    public void add(double t, double v, double m, double x) {
+        if (distance == null) {
+            distance = new double[time.length];
+            Arrays.fill(distance, 0, size, Double.NaN);
+        }
+        add(t, v, m);
+        if (distance.length < time.length) {
+            distance = Arrays.copyOf(distance, time.length);
+        }
+        distance[size - 1] = x;
+    }
+
+    // Запасной путь на случай, если число точек заранее неизвестно
+    private void grow() {
+        int capacity = Math.max(16, time.length * 2);
+        time = Arrays.copyOf(time, capacity);
+        velocity = Arrays.copyOf(velocity, capacity);
+        mass = Arrays.copyOf(mass, capacity);
+    }
+
+    @Override public int size() { return size; }
+    @Override public double getTime(int i) { return time[checkIndex(i)]; }
+    @Override public double getVelocity(int i) { return velocity[checkIndex(i)]; }
+    @Override public double getMass(int i) { return mass[checkIndex(i)]; }
+    @Override public boolean hasDistance() { return distance != null; }
+    @Override public double getDistance(int i) { return distance == null ? Double.NaN : distance[checkIndex(i)]; }
+
+    @Override public double getMaxVelocity() { return size == 0 ? 0 : maxVelocity; }
+    @Override public double getTimeOfMaxVelocity() { return size == 0 ? 0 : timeOfMaxVelocity; }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Индекс " + i + " вне диапазона [0, " + size + ")");
+        }
+        return i;
+    }
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/aussieinvader/core/TrajectorySink.java
+package com.aussieinvader.core;
+
+// Приёмник точек траектории. Решатели передают точки по мере вычисления,
+// а приёмник сам решает, хранить их, записывать или только агрегировать.
+@FunctionalInterface
+public interface TrajectorySink {
+    void add(double t, double v, double m);
+
+    // Точка с пройденным путём (заезд целиком); приёмник без столбца пути его отбрасывает
+    default void add(double t, double v, double m, double x) {
+        add(t, v, m);
+    }
+}
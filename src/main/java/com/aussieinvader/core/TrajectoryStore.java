@@ -0,0 +1,455 @@
+// src/main/java/com/aussieinvader/core/TrajectoryStore.java
+package com.aussieinvader.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+// Дисковое хранилище траекторий вне кучи. Каждый прогон — каталог run-NNNNNN со столбцами
+// t.f64, v.f64, m.f64 (little-endian float64), у заезда целиком ещё x.f64 (пройденный путь), и описанием meta.properties: ключ SolutionCache.Key
+// (метод, параметры, настройки), статистика решателя, максимум и события.
+// Описание пишется последним, поэтому каталог без него — незавершённая запись: её может вести другой процесс
+// с тем же каталогом, так что при открытии такой прогон пропускается, а не удаляется. Номер прогона
+// занимается атомарным созданием его каталога, поэтому процессы с общим хранилищем не пишут в один каталог.
+// Индекс прогонов по ключу собирается при открытии из описаний; сами столбцы отображаются
+// в память при чтении, так что сохранённое решение открывается без пересчёта и без копирования в кучу.
+public final class TrajectoryStore {
+    private static final String RUN_PREFIX = "run-";
+    private static final String META = "meta.properties";
+    private static final String TIME = "t.f64";
+    private static final String VELOCITY = "v.f64";
+    private static final String MASS = "m.f64";
+    private static final String DISTANCE = "x.f64";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final Map<SolutionCache.Key, Entry> index = new HashMap<>();
+    private long nextId;
+
+    private TrajectoryStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static TrajectoryStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        TrajectoryStore store = new TrajectoryStore(directory);
+        try (DirectoryStream<Path> runs = Files.newDirectoryStream(directory, RUN_PREFIX + "*")) {
+            for (Path run : runs) {
+                store.loadRun(run);
+            }
+        }
+        return store;
+    }
+
+    private void loadRun(Path run) throws IOException {
+        long id;
+        try {
+            id = Long.parseLong(run.getFileName().toString().substring(RUN_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return;
+        }
+        nextId = Math.max(nextId, id + 1);
+        Path meta = run.resolve(META);
+        if (!Files.exists(meta)) {
+            return;
+        }
+        Entry entry;
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            entry = Entry.read(id, run, properties);
+        } catch (IllegalArgumentException | IOException e) {
+            // Один испорченный прогон не должен закрывать всё хранилище
+            System.err.println("Прогон " + run + " пропущен, повреждённое описание: " + e.getMessage());
+            return;
+        }
+        // Из двух прогонов с одним ключом действует более поздний
+        Entry previous = index.get(entry.key);
+        if (previous == null || previous.id < entry.id) {
+            index.put(entry.key, entry);
+        }
+    }
+
+    public Path getDirectory() { return directory; }
+
+    public synchronized int size() { return index.size(); }
+
+    public synchronized boolean contains(SolutionCache.Key key) {
+        return index.containsKey(key);
+    }
+
+    // Прогоны в порядке записи
+    public synchronized List<Entry> list() {
+        List<Entry> entries = new ArrayList<>(index.values());
+        entries.sort(Comparator.comparingLong(e -> e.id));
+        return entries;
+    }
+
+    // Сохранённое решение с траекторией в отображённых файлах, или null, если ключа нет
+    public SimulationResult load(SolutionCache.Key key) throws IOException {
+        Entry entry;
+        synchronized (this) {
+            entry = index.get(key);
+        }
+        return entry == null ? null : entry.open();
+    }
+
+    // Копирует готовое решение в хранилище и возвращает его отображённую копию
+    public SimulationResult save(SolutionCache.Key key, SimulationResult result) throws IOException {
+        try (Writer writer = writer(key, result.getMethodName(), result.hasDistance())) {
+            for (int i = 0; i < result.size(); i++) {
+                writer.write(result.getTime(i), result.getVelocity(i), result.getMass(i), result.getDistance(i));
+            }
+            return writer.commit(result);
+        }
+    }
+
+    // Потоковая запись: решатель передаёт точки прямо в файлы, траектория не собирается в куче.
+    // Без commit запись отменяется при close.
+    public Writer writer(SolutionCache.Key key, String methodName) throws IOException {
+        return writer(key, methodName, false);
+    }
+
+    // distance — писать и столбец пройденного пути (точки через add(t, v, m, x))
+    public Writer writer(SolutionCache.Key key, String methodName, boolean distance) throws IOException {
+        // Восстановить по описанию можно только модель, заданную выражением
+        ForceModel model = key.getParams().getForceModel();
+        if (model != ForceModel.STANDARD && !(model instanceof ExpressionForceModel)) {
+            throw new IOException("Модель сил " + model + " не сохраняется в хранилище");
+        }
+        // Номер занят, если его каталог уже создал другой процесс: берём следующий
+        while (true) {
+            long id;
+            synchronized (this) {
+                id = nextId++;
+            }
+            Path run = directory.resolve(String.format(Locale.ROOT, "%s%06d", RUN_PREFIX, id));
+            try {
+                Files.createDirectory(run);
+            } catch (FileAlreadyExistsException e) {
+                continue;
+            }
+            try {
+                return new Writer(id, run, key, methodName, distance);
+            } catch (IOException | RuntimeException e) {
+                deleteRun(run);
+                throw e;
+            }
+        }
+    }
+
+    public boolean remove(SolutionCache.Key key) throws IOException {
+        Entry entry;
+        synchronized (this) {
+            entry = index.remove(key);
+        }
+        if (entry == null) {
+            return false;
+        }
+        deleteRun(entry.run);
+        return true;
+    }
+
+    private synchronized void register(Entry entry) throws IOException {
+        Entry previous = index.put(entry.key, entry);
+        if (previous != null) {
+            deleteRun(previous.run);
+        }
+    }
+
+    // Отображённые файлы удалить можно не везде (Windows); тогда прогон просто остаётся на диске
+    private static void deleteRun(Path run) {
+        try (Stream<Path> files = Files.walk(run)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    // оставляем файл
+                }
+            });
+        } catch (IOException e) {
+            // каталог уже удалён или недоступен
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "хранилище " + directory + ": прогонов " + size();
+    }
+
+    // Описание сохранённого прогона из индекса
+    public static final class Entry {
+        public final long id;
+        public final SolutionCache.Key key;
+        public final String methodName;
+        public final int points;
+        // Есть ли столбец пройденного пути
+        public final boolean distance;
+        public final SolverStats stats;
+        public final double maxVelocity;
+        public final double timeOfMaxVelocity;
+        public final List<SimulationEvent> events;
+        private final Path run;
+
+        private Entry(long id, Path run, SolutionCache.Key key, String methodName, int points, boolean distance,
+                      SolverStats stats, double maxVelocity, double timeOfMaxVelocity, List<SimulationEvent> events) {
+            this.id = id;
+            this.run = run;
+            this.key = key;
+            this.methodName = methodName;
+            this.points = points;
+            this.distance = distance;
+            this.stats = stats;
+            this.maxVelocity = maxVelocity;
+            this.timeOfMaxVelocity = timeOfMaxVelocity;
+            this.events = List.copyOf(events);
+        }
+
+        SimulationResult open() throws IOException {
+            MappedTrajectory trajectory = new MappedTrajectory(run.resolve(TIME), run.resolve(VELOCITY),
+                    run.resolve(MASS), distance ? run.resolve(DISTANCE) : null, points, maxVelocity, timeOfMaxVelocity);
+            return new SimulationResult(trajectory, methodName, stats, events, maxVelocity, timeOfMaxVelocity);
+        }
+
+        private Properties toProperties() {
+            Properties p = new Properties();
+            p.setProperty("method", key.getMethod());
+            p.setProperty("settings", Arrays.toString(key.getSettings()));
+            for (Parameter parameter : Parameter.values()) {
+                p.setProperty("param." + parameter.name(), Double.toString(parameter.get(key.getParams())));
+            }
+            if (!key.getParams().isStandardModel()) {
+                p.setProperty("forceModel", key.getParams().getForceModel().toString());
+            }
+            p.setProperty("name", methodName);
+            p.setProperty("points", Integer.toString(points));
+            if (distance) {
+                p.setProperty("distance", "true");
+            }
+            p.setProperty("acceptedSteps", Integer.toString(stats.acceptedSteps));
+            p.setProperty("rejectedSteps", Integer.toString(stats.rejectedSteps));
+            p.setProperty("evaluations", Long.toString(stats.evaluations));
+            p.setProperty("maxVelocity", Double.toString(maxVelocity));
+            p.setProperty("timeOfMaxVelocity", Double.toString(timeOfMaxVelocity));
+            p.setProperty("events", Integer.toString(events.size()));
+            for (int i = 0; i < events.size(); i++) {
+                SimulationEvent event = events.get(i);
+                p.setProperty("event." + i + ".name", event.name);
+                p.setProperty("event." + i + ".time", Double.toString(event.time));
+                p.setProperty("event." + i + ".velocity", Double.toString(event.velocity));
+                p.setProperty("event." + i + ".mass", Double.toString(event.mass));
+                if (event.hasDistance()) {
+                    p.setProperty("event." + i + ".distance", Double.toString(event.distance));
+                }
+            }
+            return p;
+        }
+
+        private static Entry read(long id, Path run, Properties p) {
+            VehicleParameters params = new VehicleParameters(
+                    number(p, "param.M0"), number(p, "param.M_FINAL"), number(p, "param.Q"), number(p, "param.U"),
+                    number(p, "param.BETA"), number(p, "param.MU"), number(p, "param.G"),
+                    p.getProperty("forceModel") == null ? ForceModel.STANDARD : ForceModel.parse(p.getProperty("forceModel")));
+            String settingsText = require(p, "settings");
+            String inner = settingsText.substring(1, settingsText.length() - 1).strip();
+            double[] settings = inner.isEmpty() ? new double[0]
+                    : Arrays.stream(inner.split(",")).mapToDouble(s -> Double.parseDouble(s.strip())).toArray();
+            SolverStats stats = new SolverStats(Integer.parseInt(require(p, "acceptedSteps")),
+                    Integer.parseInt(require(p, "rejectedSteps")), Long.parseLong(require(p, "evaluations")));
+            int eventCount = Integer.parseInt(require(p, "events"));
+            List<SimulationEvent> events = new ArrayList<>(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                String distance = p.getProperty("event." + i + ".distance");
+                events.add(new SimulationEvent(require(p, "event." + i + ".name"), number(p, "event." + i + ".time"),
+                        number(p, "event." + i + ".velocity"), number(p, "event." + i + ".mass"),
+                        distance == null ? Double.NaN : Double.parseDouble(distance)));
+            }
+            return new Entry(id, run, new SolutionCache.Key(require(p, "method"), params, settings),
+                    require(p, "name"), Integer.parseInt(require(p, "points")),
+                    Boolean.parseBoolean(p.getProperty("distance")), stats,
+                    number(p, "maxVelocity"), number(p, "timeOfMaxVelocity"), events);
+        }
+
+        private static String require(Properties p, String name) {
+            String value = p.getProperty(name);
+            if (value == null) {
+                throw new IllegalArgumentException("нет поля " + name);
+            }
+            return value;
+        }
+
+        private static double number(Properties p, String name) {
+            return Double.parseDouble(require(p, name));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "#%d %s: %d точек, vmax = %.4f м/с", id, methodName, points, maxVelocity);
+        }
+    }
+
+    // Запись одного прогона: три (с путём — четыре) столбца через буферы по 64 КБ
+    public final class Writer implements TrajectorySink, AutoCloseable {
+        private final long id;
+        private final Path run;
+        private final SolutionCache.Key key;
+        private final String methodName;
+        private final Column time;
+        private final Column velocity;
+        private final Column mass;
+        private final Column distance;
+        private final MaxTracker tracker = new MaxTracker();
+        private boolean committed;
+
+        private Writer(long id, Path run, SolutionCache.Key key, String methodName, boolean distance)
+                throws IOException {
+            this.id = id;
+            this.run = run;
+            this.key = key;
+            this.methodName = methodName;
+            this.time = new Column(run.resolve(TIME));
+            this.velocity = new Column(run.resolve(VELOCITY));
+            this.mass = new Column(run.resolve(MASS));
+            this.distance = distance ? new Column(run.resolve(DISTANCE)) : null;
+        }
+
+        @Override
+        public void add(double t, double v, double m) {
+            add(t, v, m, Double.NaN);
+        }
+
+        @Override
+        public void add(double t, double v, double m, double x) {
+            try {
+                write(t, v, m, x);
+            } catch (IOException e) {
+                // TrajectorySink не объявляет проверяемых исключений
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void write(double t, double v, double m, double x) throws IOException {
+            if (tracker.getCount() == Integer.MAX_VALUE) {
+                throw new IOException("Прогон длиннее " + Integer.MAX_VALUE + " точек");
+            }
+            time.put(t);
+            velocity.put(v);
+            mass.put(m);
+            if (distance != null) {
+                distance.put(x);
+            }
+            tracker.add(t, v, m);
+        }
+
+        // Максимум — по записанным точкам
+        public SimulationResult commit(SolverStats stats) throws IOException {
+            return commit(methodName, stats, List.of(), tracker.getMaxVelocity(), tracker.getTimeOfMaxVelocity());
+        }
+
+        // Максимум и события — как их нашёл решатель (например, EventDetector внутри шага)
+        public SimulationResult commit(SolverStats stats, List<SimulationEvent> events,
+                                       double maxVelocity, double timeOfMaxVelocity) throws IOException {
+            return commit(methodName, stats, events, maxVelocity, timeOfMaxVelocity);
+        }
+
+        // Описание — целиком от готового решения, чьи точки уже записаны (имя метода тоже от него)
+        public SimulationResult commit(SimulationResult solved) throws IOException {
+            return commit(solved.getMethodName(), solved.getStats(), solved.getEvents(),
+                    solved.getMaxVelocity(), solved.getTimeOfMaxVelocity());
+        }
+
+        private SimulationResult commit(String name, SolverStats stats, List<SimulationEvent> events,
+                                        double maxVelocity, double timeOfMaxVelocity) throws IOException {
+            if (committed) {
+                throw new IllegalStateException("Прогон уже сохранён");
+            }
+            closeColumns();
+            Entry entry = new Entry(id, run, key, name, (int) tracker.getCount(), distance != null, stats,
+                    maxVelocity, timeOfMaxVelocity, events);
+            Path temp = run.resolve(META + ".tmp");
+            try (java.io.Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                entry.toProperties().store(out, null);
+            }
+            Files.move(temp, run.resolve(META), StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            register(entry);
+            return entry.open();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (committed) {
+                return;
+            }
+            try {
+                closeColumns();
+            } finally {
+                deleteRun(run);
+            }
+        }
+
+        private void closeColumns() throws IOException {
+            time.close();
+            velocity.close();
+            mass.close();
+            if (distance != null) {
+                distance.close();
+            }
+        }
+    }
+
+    private static final class Column {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        Column(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void put(double value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putDouble(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void close() throws IOException {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
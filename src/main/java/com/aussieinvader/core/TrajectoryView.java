@@ -0,0 +1,17 @@
+// src/main/java/com/aussieinvader/core/TrajectoryView.java
+package com.aussieinvader.core;
+
+// Только чтение готовой траектории: точки могут лежать в куче (Trajectory)
+// или в отображённых в память файлах хранилища (TrajectoryStore)
+public interface TrajectoryView {
+    int size();
+    double getTime(int i);
+    double getVelocity(int i);
+    double getMass(int i);
+    double getMaxVelocity();
+    double getTimeOfMaxVelocity();
+
+    // Пройденный путь есть только у многофазного расчёта (MissionSolver)
+    default boolean hasDistance() { return false; }
+    default double getDistance(int i) { return Double.NaN; }
+}
@@ -0,0 +1,76 @@
+// src/main/java/com/aussieinvader/core/VectorBatchRK4.java
+package com.aussieinvader.core;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Векторная реализация: группа дорожек шириной SPECIES держится в регистрах все steps шагов,
+// параметры загружаются один раз на группу. Хвост пакета досчитывается скалярно.
+final class VectorBatchRK4 extends BatchRK4 {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() { return "vector x" + SPECIES.length(); }
+
+    @Override
+    public int getLaneCount() { return SPECIES.length(); }
+
+    @Override
+    public void integrate(BatchState s, int steps) {
+        int bound = SPECIES.loopBound(s.size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            integrateGroup(s, i, steps);
+        }
+        for (; i < s.size; i++) {
+            ScalarBatchRK4.integrateLane(s, i, steps);
+        }
+    }
+
+    private static void integrateGroup(BatchState s, int i, int steps) {
+        DoubleVector thrust = DoubleVector.fromArray(SPECIES, s.thrust, i);
+        DoubleVector beta = DoubleVector.fromArray(SPECIES, s.beta, i);
+        DoubleVector friction = DoubleVector.fromArray(SPECIES, s.friction, i);
+        DoubleVector dt = DoubleVector.fromArray(SPECIES, s.dt, i);
+        DoubleVector q = DoubleVector.fromArray(SPECIES, s.q, i);
+        DoubleVector half = dt.mul(0.5);
+        DoubleVector sixth = dt.div(6.0);
+        DoubleVector dmHalf = q.mul(half);
+        DoubleVector dm = q.mul(dt);
+
+        DoubleVector v = DoubleVector.fromArray(SPECIES, s.velocity, i);
+        DoubleVector m = DoubleVector.fromArray(SPECIES, s.mass, i);
+        DoubleVector maxV = DoubleVector.zero(SPECIES);
+        DoubleVector tMax = DoubleVector.zero(SPECIES);
+
+        for (int k = 1; k <= steps; k++) {
+            DoubleVector mHalf = m.sub(dmHalf);
+            DoubleVector mEnd = m.sub(dm);
+            DoubleVector k1 = dvdt(thrust, beta, friction, v, m);
+            DoubleVector k2 = dvdt(thrust, beta, friction, k1.fma(half, v), mHalf);
+            DoubleVector k3 = dvdt(thrust, beta, friction, k2.fma(half, v), mHalf);
+            DoubleVector k4 = dvdt(thrust, beta, friction, k3.fma(dt, v), mEnd);
+            DoubleVector sum = k1.add(k2.add(k3).mul(2.0)).add(k4);
+            v = sum.fma(sixth, v);
+            m = mEnd;
+
+            VectorMask<Double> greater = v.compare(VectorOperators.GT, maxV);
+            maxV = maxV.blend(v, greater);
+            tMax = tMax.blend(dt.mul(k), greater);
+        }
+
+        v.intoArray(s.velocity, i);
+        m.intoArray(s.mass, i);
+        maxV.intoArray(s.maxVelocity, i);
+        tMax.intoArray(s.timeOfMaxVelocity, i);
+    }
+
+    // (Q·U − β·v²)/m − μ·g
+    private static DoubleVector dvdt(DoubleVector thrust, DoubleVector beta, DoubleVector friction,
+                                     DoubleVector v, DoubleVector m) {
+        return beta.mul(v).neg().fma(v, thrust).div(m).sub(friction);
+    }
+}
@@ -0,0 +1,148 @@
+// src/main/java/com/aussieinvader/core/VehicleParameters.java
+package com.aussieinvader.core;
+
+// Неизменяемый набор параметров автомобиля. Производные величины (время горения, NU, C)
+// вычисляются один раз на набор, поэтому разные конфигурации можно решать параллельно.
+public final class VehicleParameters {
+    // Параметры из Таблицы 1
+    public static final VehicleParameters DEFAULT = new VehicleParameters(
+            PhysicsModel.M0, PhysicsModel.M_FINAL, PhysicsModel.Q, PhysicsModel.U,
+            PhysicsModel.BETA, PhysicsModel.MU, PhysicsModel.G);
+
+    public final double m0;      // кг
+    public final double mFinal;  // кг
+    public final double q;       // кг/с
+    public final double u;       // м/с
+    public final double beta;    // коэф. сопротивления
+    public final double mu;      // коэф. трения
+    public final double g;       // м/с²
+
+    private final double burnTime;
+    private final double thrustForce;
+    private final double frictionAcceleration;
+    private final double nu;
+
+    // Модель сил и её специализация под этот набор; для STANDARD решатели считают формулу напрямую
+    private final ForceModel forceModel;
+    private final ForceModel.Acceleration acceleration;
+
+    // Константа аналитического решения считается лениво: её вычисление требует рядов.
+    // Гонка безвредна — все потоки получают одно и то же значение.
+    private volatile double analyticalConstant = Double.NaN;
+
+    public VehicleParameters(double m0, double mFinal, double q, double u, double beta, double mu, double g) {
+        this(m0, mFinal, q, u, beta, mu, g, ForceModel.STANDARD);
+    }
+
+    public VehicleParameters(double m0, double mFinal, double q, double u, double beta, double mu, double g,
+                             ForceModel forceModel) {
+        if (forceModel == null) {
+            throw new IllegalArgumentException("Модель сил не задана");
+        }
+        requirePositive("M0", m0);
+        requirePositive("M_FINAL", mFinal);
+        requirePositive("Q", q);
+        requirePositive("U", u);
+        requirePositive("BETA", beta);
+        requireNonNegative("MU", mu);
+        requireNonNegative("G", g);
+        if (mFinal >= m0) {
+            throw new IllegalArgumentException("M_FINAL должна быть меньше M0: " + mFinal + " >= " + m0);
+        }
+        this.m0 = m0;
+        this.mFinal = mFinal;
+        this.q = q;
+        this.u = u;
+        this.beta = beta;
+        this.mu = mu;
+        this.g = g;
+
+        this.burnTime = (m0 - mFinal) / q;
+        this.thrustForce = q * u;
+        this.frictionAcceleration = mu * g;
+        this.nu = 2 * Math.sqrt(beta * u / q);
+
+        this.forceModel = forceModel;
+        this.acceleration = forceModel == ForceModel.STANDARD ? null : forceModel.bind(this);
+    }
+
+    public VehicleParameters withM0(double value) { return new VehicleParameters(value, mFinal, q, u, beta, mu, g, forceModel); }
+    public VehicleParameters withMFinal(double value) { return new VehicleParameters(m0, value, q, u, beta, mu, g, forceModel); }
+    public VehicleParameters withQ(double value) { return new VehicleParameters(m0, mFinal, value, u, beta, mu, g, forceModel); }
+    public VehicleParameters withU(double value) { return new VehicleParameters(m0, mFinal, q, value, beta, mu, g, forceModel); }
+    public VehicleParameters withBeta(double value) { return new VehicleParameters(m0, mFinal, q, u, value, mu, g, forceModel); }
+    public VehicleParameters withMu(double value) { return new VehicleParameters(m0, mFinal, q, u, beta, value, g, forceModel); }
+    public VehicleParameters withG(double value) { return new VehicleParameters(m0, mFinal, q, u, beta, mu, value, forceModel); }
+    public VehicleParameters withForceModel(ForceModel model) { return new VehicleParameters(m0, mFinal, q, u, beta, mu, g, model); }
+
+    // Время горения
+    public double getBurnTime() { return burnTime; }
+    // Сила тяги Q·U
+    public double getThrustForce() { return thrustForce; }
+    // Ускорение трения μ·g
+    public double getFrictionAcceleration() { return frictionAcceleration; }
+    // Порядок функций Бесселя в аналитическом решении
+    public double getNu() { return nu; }
+
+    public ForceModel getForceModel() { return forceModel; }
+    // Аналитическое решение и векторный пакетный RK4 выведены только для стандартной модели
+    public boolean isStandardModel() { return forceModel == ForceModel.STANDARD; }
+    // Специализированная модель; null для стандартной
+    ForceModel.Acceleration getAcceleration() { return acceleration; }
+
+    double getAnalyticalConstant() {
+        double c = analyticalConstant;
+        if (Double.isNaN(c)) {
+            c = AnalyticalSolver.computeConstantC(this);
+            analyticalConstant = c;
+        }
+        return c;
+    }
+
+    private static void requirePositive(String name, double value) {
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " должен быть положительным: " + value);
+        }
+    }
+
+    private static void requireNonNegative(String name, double value) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " не может быть отрицательным: " + value);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VehicleParameters)) return false;
+        VehicleParameters p = (VehicleParameters) o;
+        return Double.compare(m0, p.m0) == 0
+                && Double.compare(mFinal, p.mFinal) == 0
+                && Double.compare(q, p.q) == 0
+                && Double.compare(u, p.u) == 0
+                && Double.compare(beta, p.beta) == 0
+                && Double.compare(mu, p.mu) == 0
+                && Double.compare(g, p.g) == 0
+                && forceModel.equals(p.forceModel);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = Double.hashCode(m0);
+        h = 31 * h + Double.hashCode(mFinal);
+        h = 31 * h + Double.hashCode(q);
+        h = 31 * h + Double.hashCode(u);
+        h = 31 * h + Double.hashCode(beta);
+        h = 31 * h + Double.hashCode(mu);
+        h = 31 * h + Double.hashCode(g);
+        h = 31 * h + forceModel.hashCode();
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "M0=" + m0 + ", M_FINAL=" + mFinal + ", Q=" + q + ", U=" + u
+                + ", BETA=" + beta + ", MU=" + mu + ", G=" + g
+                + (isStandardModel() ? "" : ", dv/dt=" + forceModel);
+    }
+}
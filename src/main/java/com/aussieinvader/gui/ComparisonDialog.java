@@ -0,0 +1,100 @@
+// src/main/java/com/aussieinvader/gui/ComparisonDialog.java
+package com.aussieinvader.gui;
+
+import com.aussieinvader.core.ComparisonReport;
+import com.aussieinvader.core.SimulationResult;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.Locale;
+
+// Окно сравнения методов: сверху скорости всех методов, под ними погрешность относительно
+// эталона на общей оси времени, внизу таблица стоимости и точности
+class ComparisonDialog extends JDialog {
+    // Точек ряда на график не больше этого: остальное прореживается минимумами/максимумами
+    private static final int PLOT_BUCKETS = 1000;
+
+    ComparisonDialog(Frame owner, ComparisonReport report, double tolerance) {
+        super(owner, "Сравнение методов", false);
+        setSize(1100, 800);
+        setLocationRelativeTo(owner);
+        setLayout(new BorderLayout());
+
+        XYSeriesCollection velocities = new XYSeriesCollection();
+        XYSeriesCollection errors = new XYSeriesCollection();
+        for (ComparisonReport.Row row : report.getRows()) {
+            SimulationResult result = row.result;
+            XYSeries velocity = new XYSeries(row.getMethodName(), false, true);
+            Downsampler.minMax(result, result.getTime(0), result.getTime(result.size() - 1), PLOT_BUCKETS, 3.6,
+                    velocity);
+            velocities.addSeries(velocity);
+
+            XYSeries error = new XYSeries(row.getMethodName(), false, true);
+            int stride = Math.max(1, result.size() / PLOT_BUCKETS);
+            error.setNotify(false);
+            for (int i = 0; i < result.size(); i += stride) {
+                error.add(result.getTime(i), row.getError(i), false);
+            }
+            error.setNotify(true);
+            errors.addSeries(error);
+        }
+
+        XYPlot velocityPlot = new XYPlot(velocities, null, new NumberAxis("Скорость (км/ч)"),
+                new XYLineAndShapeRenderer(true, false));
+        XYPlot errorPlot = new XYPlot(errors, null, new NumberAxis("v − v_эталон (м/с)"),
+                new XYLineAndShapeRenderer(true, false));
+        CombinedDomainXYPlot plot = new CombinedDomainXYPlot(new NumberAxis("Время (с)"));
+        plot.add(velocityPlot, 2);
+        plot.add(errorPlot, 1);
+        JFreeChart chart = new JFreeChart("Методы на одном наборе параметров", JFreeChart.DEFAULT_TITLE_FONT,
+                plot, true);
+        add(new ChartPanel(chart), BorderLayout.CENTER);
+
+        JPanel bottom = new JPanel(new BorderLayout());
+        bottom.add(new JScrollPane(createTable(report)), BorderLayout.CENTER);
+        ComparisonReport.Row fastest = report.fastestWithin(tolerance);
+        String verdict = fastest == null
+                ? String.format(Locale.ROOT, "Ни один метод не уложился в погрешность vmax ≤ %.3g м/с", tolerance)
+                : String.format(Locale.ROOT, "Быстрейший с погрешностью vmax ≤ %.3g м/с: %s (%.3f мс)",
+                tolerance, fastest.getMethodName(), fastest.wallNanos / 1e6);
+        JLabel verdictLabel = new JLabel(verdict);
+        verdictLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        bottom.add(verdictLabel, BorderLayout.SOUTH);
+        bottom.setPreferredSize(new Dimension(0, 190));
+        add(bottom, BorderLayout.SOUTH);
+    }
+
+    private static JTable createTable(ComparisonReport report) {
+        String[] columns = {"Метод", "Время, мс", "Вычислений dv/dt", "Шагов", "vmax, м/с",
+                "Погрешность vmax, м/с", "Макс. |Δv|, м/с"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (ComparisonReport.Row row : report.getRows()) {
+            model.addRow(new Object[]{
+                    row.getMethodName(),
+                    String.format(Locale.ROOT, "%.3f", row.wallNanos / 1e6),
+                    row.result.getStats().evaluations,
+                    row.result.getStats().acceptedSteps,
+                    String.format(Locale.ROOT, "%.6f", row.result.getMaxVelocity()),
+                    String.format(Locale.ROOT, "%.3e", row.maxVelocityError),
+                    String.format(Locale.ROOT, "%.3e", row.maxError)
+            });
+        }
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        return table;
+    }
+}
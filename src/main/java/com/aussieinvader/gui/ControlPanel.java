@@ -1,14 +1,20 @@
 // src/main/java/com/aussieinvader/gui/ControlPanel.java
 package com.aussieinvader.gui;
 
+import com.aussieinvader.core.MissionProfile;
+import com.aussieinvader.core.Parameter;
 import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.VehicleParameters;
 
 import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import java.awt.*;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -18,9 +24,22 @@ public class ControlPanel extends JPanel {
     private final JRadioButton eulerButton;
     private final JRadioButton rk4Button;
     private final JCheckBox analyticalCheckBox;
+    private final JCheckBox missionCheckBox;
+    private final JSlider coastSlider;
+    private final JSlider brakeDragSlider;
     private final JButton runButton;
+    private final JButton compareButton;
+    private final List<ParameterSlider> parameterSliders = new ArrayList<>();
+    private final JLabel parametersStatus;
+
+    // Пока ползунок параметра тянут, предпросмотр не чаще раза в PREVIEW_PERIOD_MS;
+    // промежуточные значения сливаются, в расчёт идёт последнее
+    private static final int PREVIEW_PERIOD_MS = 16;
+    private final Timer previewTimer;
 
     private Consumer<SimulationParams> onRun;
+    private Consumer<SimulationParams> onPreview;
+    private Consumer<SimulationParams> onCompare;
 
     public ControlPanel() {
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
@@ -64,6 +83,25 @@ public class ControlPanel extends JPanel {
         analyticalCheckBox.setSelected(true);
         add(analyticalCheckBox);
 
+        // Заезд целиком: после выгорания — накат и торможение до остановки
+        missionCheckBox = new JCheckBox("Накат и торможение");
+        add(missionCheckBox);
+        // Сценарий после выгорания: правка пересчитывает только хвост заезда (MissionHistory)
+        JPanel missionPanel = new JPanel(new GridLayout(0, 2, 5, 0));
+        missionPanel.setBackground(Color.DARK_GRAY);
+        missionPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        coastSlider = addMissionSlider(missionPanel, "Накат, с",
+                0, 30, (int) MissionProfile.DEFAULT_COAST_DURATION, 1);
+        brakeDragSlider = addMissionSlider(missionPanel, "Парашют, кг/м",
+                0, 50, (int) Math.round(MissionProfile.DEFAULT_BRAKE_DRAG * 10), 10);
+        missionCheckBox.addActionListener(e -> {
+            coastSlider.setEnabled(missionCheckBox.isSelected());
+            brakeDragSlider.setEnabled(missionCheckBox.isSelected());
+        });
+        coastSlider.setEnabled(false);
+        brakeDragSlider.setEnabled(false);
+        add(missionPanel);
+
         // Кнопка запуска
         runButton = new JButton("Запустить симуляцию");
         runButton.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -71,17 +109,139 @@ public class ControlPanel extends JPanel {
         runButton.setForeground(Color.WHITE);
         runButton.setFocusPainted(false);
         runButton.addActionListener(e -> {
-            if (onRun != null) {
-                onRun.accept(new SimulationParams(
-                        stepsSlider.getValue(),
-                        termsSlider.getValue(),
-                        eulerButton.isSelected() ? "euler" : "rk4",
-                        analyticalCheckBox.isSelected()
-                ));
+            SimulationParams params = currentParams();
+            if (onRun != null && params != null) {
+                onRun.accept(params);
+            }
+        });
+        // Все методы на тех же параметрах — в отдельном окне
+        compareButton = new JButton("Сравнить методы");
+        compareButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        compareButton.setFocusPainted(false);
+        compareButton.addActionListener(e -> {
+            SimulationParams params = currentParams();
+            if (onCompare != null && params != null) {
+                onCompare.accept(params);
             }
         });
         add(Box.createVerticalStrut(10));
-        add(runButton);
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        buttons.setBackground(Color.DARK_GRAY);
+        buttons.setAlignmentX(Component.LEFT_ALIGNMENT);
+        buttons.add(runButton);
+        buttons.add(compareButton);
+        add(buttons);
+
+        // Физические параметры: предпросмотр во время перетаскивания, полный расчёт при отпускании
+        add(Box.createVerticalStrut(5));
+        add(createLabel("Параметры модели:", Color.LIGHT_GRAY, Font.PLAIN, 12));
+        JPanel parametersPanel = new JPanel(new GridLayout(0, 2, 5, 0));
+        parametersPanel.setBackground(Color.DARK_GRAY);
+        parametersPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        VehicleParameters defaults = VehicleParameters.DEFAULT;
+        addParameterSlider(parametersPanel, Parameter.Q, 50, 250, 1, defaults);
+        addParameterSlider(parametersPanel, Parameter.U, 1000, 2500, 1, defaults);
+        addParameterSlider(parametersPanel, Parameter.BETA, 10, 300, 1000, defaults);
+        // MU = 0 не допускает аналитическое решение (τ = 0), поэтому ползунок начинается с 0.01
+        addParameterSlider(parametersPanel, Parameter.MU, 1, 100, 100, defaults);
+        addParameterSlider(parametersPanel, Parameter.M0, 60, 150, 0.01, defaults);
+        addParameterSlider(parametersPanel, Parameter.M_FINAL, 30, 120, 0.01, defaults);
+        add(parametersPanel);
+
+        parametersStatus = createLabel(" ", Color.ORANGE, Font.PLAIN, 11);
+        add(parametersStatus);
+
+        previewTimer = new Timer(PREVIEW_PERIOD_MS, e -> firePreview());
+        previewTimer.setRepeats(false);
+        previewTimer.setCoalesce(true);
+    }
+
+    private JSlider addMissionSlider(JPanel panel, String name, int min, int max, int initial, double scale) {
+        JSlider slider = new JSlider(min, max, initial);
+        JLabel label = createLabel("", Color.LIGHT_GRAY, Font.PLAIN, 11);
+        label.setPreferredSize(new Dimension(140, 16));
+        DecimalFormat format = new DecimalFormat("#.#");
+        Runnable updateLabel = () -> label.setText(name + " = " + format.format(slider.getValue() / scale));
+        updateLabel.run();
+        slider.addChangeListener(e -> {
+            updateLabel.run();
+            onParameterChanged(slider.getValueIsAdjusting());
+        });
+        JPanel row = new JPanel(new BorderLayout());
+        row.setBackground(Color.DARK_GRAY);
+        row.add(label, BorderLayout.WEST);
+        row.add(slider, BorderLayout.CENTER);
+        panel.add(row);
+        return slider;
+    }
+
+    // scale — во сколько раз значение ползунка больше значения параметра
+    private void addParameterSlider(JPanel panel, Parameter parameter, int min, int max, double scale,
+                                    VehicleParameters defaults) {
+        int initial = (int) Math.round(parameter.get(defaults) * scale);
+        JSlider slider = new JSlider(min, max, initial);
+        ParameterSlider entry = new ParameterSlider(parameter, slider, scale);
+        parameterSliders.add(entry);
+        entry.updateLabel();
+        slider.addChangeListener(e -> {
+            entry.updateLabel();
+            onParameterChanged(slider.getValueIsAdjusting());
+        });
+        JPanel row = new JPanel(new BorderLayout());
+        row.setBackground(Color.DARK_GRAY);
+        row.add(entry.label, BorderLayout.WEST);
+        row.add(slider, BorderLayout.CENTER);
+        panel.add(row);
+    }
+
+    private void onParameterChanged(boolean adjusting) {
+        if (adjusting) {
+            if (!previewTimer.isRunning()) {
+                previewTimer.start();
+            }
+            return;
+        }
+        // Ползунок отпущен: точный расчёт с выбранным числом шагов
+        previewTimer.stop();
+        SimulationParams params = currentParams();
+        if (params != null && onRun != null) {
+            onRun.accept(params);
+        }
+    }
+
+    private void firePreview() {
+        SimulationParams params = currentParams();
+        if (params != null && onPreview != null) {
+            onPreview.accept(params);
+        }
+    }
+
+    // null, если набор параметров недопустим (например, M_FINAL ≥ M0)
+    private SimulationParams currentParams() {
+        VehicleParameters vehicle = VehicleParameters.DEFAULT;
+        MissionProfile mission = null;
+        try {
+            for (ParameterSlider entry : parameterSliders) {
+                vehicle = entry.parameter.with(vehicle, entry.value());
+            }
+            if (missionCheckBox.isSelected()) {
+                mission = MissionProfile.standard(vehicle)
+                        .withCoastDuration(coastSlider.getValue())
+                        .withBrakeDrag(brakeDragSlider.getValue() / 10.0);
+            }
+        } catch (IllegalArgumentException e) {
+            parametersStatus.setText(e.getMessage());
+            return null;
+        }
+        parametersStatus.setText(" ");
+        return new SimulationParams(
+                stepsSlider.getValue(),
+                termsSlider.getValue(),
+                eulerButton.isSelected() ? "euler" : "rk4",
+                analyticalCheckBox.isSelected(),
+                vehicle,
+                mission
+        );
     }
 
     private void updateStepsLabel() {
@@ -110,6 +270,15 @@ public class ControlPanel extends JPanel {
         this.onRun = listener;
     }
 
+    // Вызывается из EDT во время перетаскивания ползунков параметров
+    public void setOnPreviewListener(Consumer<SimulationParams> listener) {
+        this.onPreview = listener;
+    }
+
+    public void setOnCompareListener(Consumer<SimulationParams> listener) {
+        this.onCompare = listener;
+    }
+
     private JLabel createLabel(String text, Color color, int style, int size) {
         JLabel label = new JLabel(text);
         label.setForeground(color);
@@ -131,12 +300,51 @@ public class ControlPanel extends JPanel {
         public final int terms;
         public final String method;
         public final boolean showAnalytical;
+        public final VehicleParameters vehicle;
+        // null — только фаза горения
+        public final MissionProfile mission;
 
         public SimulationParams(int steps, int terms, String method, boolean showAnalytical) {
+            this(steps, terms, method, showAnalytical, VehicleParameters.DEFAULT);
+        }
+
+        public SimulationParams(int steps, int terms, String method, boolean showAnalytical,
+                                VehicleParameters vehicle) {
+            this(steps, terms, method, showAnalytical, vehicle, null);
+        }
+
+        public SimulationParams(int steps, int terms, String method, boolean showAnalytical,
+                                VehicleParameters vehicle, MissionProfile mission) {
             this.steps = steps;
             this.terms = terms;
             this.method = method;
             this.showAnalytical = showAnalytical;
+            this.vehicle = vehicle;
+            this.mission = mission;
+        }
+    }
+
+    private class ParameterSlider {
+        final Parameter parameter;
+        final JSlider slider;
+        final double scale;
+        final JLabel label;
+
+        ParameterSlider(Parameter parameter, JSlider slider, double scale) {
+            this.parameter = parameter;
+            this.slider = slider;
+            this.scale = scale;
+            this.label = createLabel("", Color.LIGHT_GRAY, Font.PLAIN, 11);
+            this.label.setPreferredSize(new Dimension(140, 16));
+        }
+
+        double value() {
+            return slider.getValue() / scale;
+        }
+
+        void updateLabel() {
+            String unit = parameter.getUnit().isEmpty() ? "" : " " + parameter.getUnit();
+            label.setText(parameter.getLabel() + " = " + new DecimalFormat("#.###").format(value()) + unit);
         }
     }
 }
\ No newline at end of file
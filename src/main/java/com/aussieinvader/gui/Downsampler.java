@@ -0,0 +1,73 @@
+// src/main/java/com/aussieinvader/gui/Downsampler.java
+package com.aussieinvader.gui;
+
+import com.aussieinvader.core.SimulationResult;
+import org.jfree.data.xy.XYSeries;
+
+// Прореживание траектории для графика: видимый интервал времени делится на столбцы по пикселю,
+// в каждом остаются только точки минимума и максимума (в порядке времени). Пики не теряются,
+// а число точек в XYSeries не превышает 2·ширина графика независимо от числа шагов.
+final class Downsampler {
+
+    private Downsampler() {
+    }
+
+    // Заполняет target точками результата на [xLow, xHigh]; scale — перевод скорости в единицы графика
+    static void minMax(SimulationResult result, double xLow, double xHigh, int buckets, double scale,
+                       XYSeries target) {
+        target.setNotify(false);
+        try {
+            target.clear();
+            int n = result.size();
+            if (n == 0) return;
+
+            // По одной точке за краями интервала, чтобы линия доходила до краёв графика
+            int from = Math.max(0, lowerBound(result, xLow) - 1);
+            int to = Math.min(n - 1, lowerBound(result, xHigh));
+            if (to - from + 1 <= 2 * buckets || !(xHigh > xLow)) {
+                for (int i = from; i <= to; i++) {
+                    target.add(result.getTime(i), result.getVelocity(i) * scale, false);
+                }
+                return;
+            }
+
+            double width = (xHigh - xLow) / buckets;
+            long currentBucket = Long.MIN_VALUE;
+            int minIndex = -1, maxIndex = -1;
+            for (int i = from; i <= to; i++) {
+                long bucket = (long) Math.floor((result.getTime(i) - xLow) / width);
+                if (bucket != currentBucket) {
+                    emit(result, minIndex, maxIndex, scale, target);
+                    currentBucket = bucket;
+                    minIndex = maxIndex = i;
+                } else {
+                    double v = result.getVelocity(i);
+                    if (v < result.getVelocity(minIndex)) minIndex = i;
+                    if (v > result.getVelocity(maxIndex)) maxIndex = i;
+                }
+            }
+            emit(result, minIndex, maxIndex, scale, target);
+        } finally {
+            target.setNotify(true);
+        }
+    }
+
+    private static void emit(SimulationResult result, int minIndex, int maxIndex, double scale, XYSeries target) {
+        if (minIndex < 0) return;
+        int first = Math.min(minIndex, maxIndex), second = Math.max(minIndex, maxIndex);
+        target.add(result.getTime(first), result.getVelocity(first) * scale, false);
+        if (second != first) {
+            target.add(result.getTime(second), result.getVelocity(second) * scale, false);
+        }
+    }
+
+    // Первый индекс с временем ≥ x (время в траектории возрастает)
+    private static int lowerBound(SimulationResult result, double x) {
+        int lo = 0, hi = result.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (result.getTime(mid) < x) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -5,6 +5,7 @@ import com.aussieinvader.core.*;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -12,11 +13,65 @@ import org.jfree.data.xy.XYSeriesCollection;
 import javax.swing.*;
 import java.awt.*;
 import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 public class MainFrame extends JFrame {
     private final JTextArea resultArea;
     private final ChartPanel chartPanel;
     private final ControlPanel controlPanel;
+    private final XYSeriesCollection dataset;
+    private final XYSeries numericalSeries;
+    private final XYSeries analyticalSeries;
+
+    // Один фоновый поток на все расчёты; новый запуск отменяет предыдущий
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "simulation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong runGeneration = new AtomicLong();
+    private Future<?> currentRun;
+    // Оценки неопределённости по наборам параметров, последние UNCERTAINTY_CACHE_SIZE (только поток расчётов)
+    private final Map<VehicleParameters, MonteCarloReport> uncertainties =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<VehicleParameters, MonteCarloReport> eldest) {
+                    return size() > UNCERTAINTY_CACHE_SIZE;
+                }
+            };
+
+    // Предпросмотр во время перетаскивания ползунков должен укладываться в кадр
+    private static final long FRAME_BUDGET_MS = 16;
+    private static final int MIN_PREVIEW_STEPS = 20;
+    private static final int MAX_PREVIEW_STEPS = 200;
+    private static final int PREVIEW_TERMS = 20;
+    private static final int PREVIEW_POINTS = 100;
+    private int previewSteps = MAX_PREVIEW_STEPS;
+
+    // Оценка вероятности рекорда в отчёте: относительный разброс входов и точность ±1%.
+    // Считается после основного отчёта на грубой сетке RK4 (погрешность vmax при 200 шагах меньше 1e-9 м/с,
+    // много меньше разброса) и запоминается по параметрам, так что повторный запуск её не пересчитывает
+    private static final double UNCERTAINTY_SPREAD = 0.05;
+    private static final long UNCERTAINTY_MAX_SAMPLES = 100_000;
+    private static final double UNCERTAINTY_CI = 0.01;
+    private static final int UNCERTAINTY_STEPS = 200;
+    private static final int UNCERTAINTY_CACHE_SIZE = 16;
+
+    // Сравнение методов: допуск адаптивного метода и погрешность vmax, при которой метод годится
+    private static final double COMPARISON_ADAPTIVE_TOLERANCE = 1e-6;
+    private static final double COMPARISON_MAX_ERROR = 0.01;
+
+    // Показанные результаты целиком: по ним график перепрореживается при масштабировании (только EDT)
+    private SimulationResult shownNumerical;
+    private SimulationResult shownAnalytical;
+    private boolean resampling;
 
     public MainFrame() {
         setTitle("🚀 Aussie Invader 5R Simulation");
@@ -48,17 +103,22 @@ public class MainFrame extends JFrame {
 
         // Управление (джойстики) — помещаем ВВЕРХ
         controlPanel = new ControlPanel();
-        controlPanel.setPreferredSize(new Dimension(0, 220)); // Компактная высота
+        controlPanel.setPreferredSize(new Dimension(0, 380)); // Компактная высота
         rightPanel.add(controlPanel, BorderLayout.NORTH);
 
-        // График — занимает оставшееся пространство
-        XYSeriesCollection dataset = new XYSeriesCollection();
+        // График — занимает оставшееся пространство. График и набор данных создаются один раз,
+        // при новом запуске только очищаются и заполняются ряды
+        numericalSeries = new XYSeries("Численное решение", false, true);
+        analyticalSeries = new XYSeries("Аналитическое решение", false, true);
+        dataset = new XYSeriesCollection();
+        dataset.addSeries(numericalSeries);
         JFreeChart chart = ChartFactory.createXYLineChart(
-                "Скорость от времени",
+                "Скорость Aussie Invader 5R от времени",
                 "Время (с)", "Скорость (км/ч)",
                 dataset, PlotOrientation.VERTICAL, true, true, false
         );
         chartPanel = new ChartPanel(chart);
+        chart.getXYPlot().getDomainAxis().addChangeListener(e -> resample());
         rightPanel.add(chartPanel, BorderLayout.CENTER);
 
         // === СОБИРАЕМ ВСЁ ===
@@ -67,97 +127,294 @@ public class MainFrame extends JFrame {
 
         // Подключаем обработчик (без изменений)
         controlPanel.setOnRunListener(this::runSimulation);
+        controlPanel.setOnPreviewListener(this::previewSimulation);
+        controlPanel.setOnCompareListener(this::compareMethods);
     }
 
-    private void runSimulation(ControlPanel.SimulationParams params) {
-        SwingUtilities.invokeLater(() -> {
-            resultArea.setText("Выполнение симуляции...\n");
-            resultArea.setCaretPosition(resultArea.getDocument().getLength());
-        });
+    // Предпросмотр при перетаскивании ползунков параметров: дешёвый RK4 прямо в EDT.
+    // Если кадр не укладывается в бюджет, число шагов предпросмотра уменьшается, а если укладывается
+    // с большим запасом — снова растёт: один медленный кадр (например, до JIT-компиляции) не портит остальные.
+    private void previewSimulation(ControlPanel.SimulationParams params) {
+        runGeneration.incrementAndGet();
+        if (currentRun != null) {
+            currentRun.cancel(true);
+        }
+        long start = System.nanoTime();
+        int steps = previewSteps;
 
-        new Thread(() -> {
-            try {
-                // Выполняем расчеты
-                SimulationResult numericalResult = "euler".equals(params.method) ?
-                        NumericalSolver.solveEuler(params.steps) :
-                        NumericalSolver.solveRK4(params.steps);
-
-                SimulationResult analyticalResult;
-                if (params.showAnalytical) {
-                    analyticalResult = AnalyticalSolver.solve(params.terms, 200);
-                } else {
-                    analyticalResult = null;
-                }
+        int previewTerms = Math.min(params.terms, PREVIEW_TERMS);
+        boolean analytical = showsAnalytical(params);
+        SimulationResult numericalResult;
+        SimulationResult analyticalResult = null;
+        if (params.mission != null) {
+            numericalResult = MissionSolver.solveRK4(params.mission, steps);
+            if (analytical) {
+                analyticalResult = AnalyticalSolver.solveMission(params.mission, previewTerms, PREVIEW_POINTS);
+            }
+        } else {
+            numericalResult = NumericalSolver.solveRK4(params.vehicle, steps);
+            if (analytical) {
+                analyticalResult = AnalyticalSolver.solve(params.vehicle, previewTerms, PREVIEW_POINTS);
+            }
+        }
+        shownNumerical = numericalResult;
+        shownAnalytical = analyticalResult;
+        numericalSeries.setKey(numericalResult.getMethodName() + ", предпросмотр");
+        if (analyticalResult != null) {
+            analyticalSeries.setKey(analyticalResult.getMethodName());
+            if (dataset.indexOf(analyticalSeries) < 0) dataset.addSeries(analyticalSeries);
+        } else {
+            dataset.removeSeries(analyticalSeries);
+        }
+        // Оси подстраиваются под новые данные
+        chartPanel.restoreAutoBounds();
+        resample();
 
-                // Строим график
-                XYSeries numericalSeries = new XYSeries(numericalResult.getMethodName());
-                for (var point : numericalResult.getData()) {
-                    numericalSeries.add(point.time, point.velocity * 3.6);
-                }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (elapsedMs > FRAME_BUDGET_MS) {
+            previewSteps = Math.max(MIN_PREVIEW_STEPS, steps / 2);
+        } else if (elapsedMs < FRAME_BUDGET_MS / 4) {
+            previewSteps = Math.min(MAX_PREVIEW_STEPS, steps * 2);
+        }
+        resultArea.setText(String.format("Предпросмотр (%s, %d шагов): vmax = %.2f м/с, %d мс%n%s%s",
+                params.vehicle, steps, numericalResult.getMaxVelocity(), elapsedMs,
+                "Отпустите ползунок для точного расчёта.", analyticalNote(params)));
+    }
 
-                XYSeriesCollection dataset = new XYSeriesCollection();
-                dataset.addSeries(numericalSeries);
+    // Аналитическая кривая строится, только если решение для этого набора параметров определено
+    private static boolean showsAnalytical(ControlPanel.SimulationParams params) {
+        return params.showAnalytical && AnalyticalSolver.isApplicable(params.vehicle);
+    }
 
-                if (analyticalResult != null) {
-                    XYSeries analyticalSeries = new XYSeries(analyticalResult.getMethodName());
-                    for (var point : analyticalResult.getData()) {
-                        analyticalSeries.add(point.time, point.velocity * 3.6);
-                    }
-                    dataset.addSeries(analyticalSeries);
-                }
+    private static String analyticalNote(ControlPanel.SimulationParams params) {
+        if (!params.showAnalytical || AnalyticalSolver.isApplicable(params.vehicle)) return "";
+        return "\nАналитическое решение недоступно: " + AnalyticalSolver.unavailableReason(params.vehicle);
+    }
 
-                // Обновляем UI в EDT
+    // Методы считаются параллельно на общем пуле; поток расчётов только ждёт их и открывает окно
+    private void compareMethods(ControlPanel.SimulationParams params) {
+        resultArea.setText("Сравнение методов...\n");
+        executor.submit(() -> {
+            try {
+                ComparisonReport report = new MethodComparison()
+                        .run(params.vehicle, params.steps, params.terms, COMPARISON_ADAPTIVE_TOLERANCE);
                 SwingUtilities.invokeLater(() -> {
-                    chartPanel.setChart(ChartFactory.createXYLineChart(
-                            "Скорость Aussie Invader 5R от времени",
-                            "Время (с)", "Скорость (км/ч)",
-                            dataset, PlotOrientation.VERTICAL, true, true, false
-                    ));
-
-                    // Формируем отчет
-                    StringBuilder report = new StringBuilder();
-                    DecimalFormat df = new DecimalFormat("#.##");
-                    DecimalFormat df4 = new DecimalFormat("#.####");
-
-                    report.append("=== РЕЗУЛЬТАТЫ СИМУЛЯЦИИ ===\n\n");
-                    report.append("Параметры:\n");
-                    report.append("  - Метод: ").append(numericalResult.getMethodName()).append("\n");
-                    report.append("  - Число шагов: ").append(params.steps).append("\n");
-                    if (params.showAnalytical) {
-                        report.append("  - Число членов ряда: ").append(params.terms).append("\n\n");
-                    }
-
-                    double maxVNum = numericalResult.getMaxVelocity();
-                    report.append("ЧИСЛЕННЫЙ МЕТОД:\n");
-                    report.append("  - Макс. скорость: ").append(df.format(maxVNum)).append(" м/с\n");
-                    report.append("                  = ").append(df.format(maxVNum * 3.6)).append(" км/ч\n");
-                    report.append("                  = ").append(df.format(maxVNum * 3.6 / 1.609)).append(" миль/ч\n");
-                    report.append("  - Время максимума: ").append(df.format(numericalResult.getTimeOfMaxVelocity())).append(" с\n\n");
-
-                    if (analyticalResult != null) {
-                        double maxVAna = analyticalResult.getMaxVelocity();
-                        double error = Math.abs(maxVNum - maxVAna);
-                        double relError = (error / maxVAna) * 100;
-
-                        report.append("АНАЛИТИЧЕСКОЕ РЕШЕНИЕ:\n");
-                        report.append("  - Макс. скорость: ").append(df.format(maxVAna)).append(" м/с\n");
-                        report.append("  - Погрешность:    ").append(df4.format(error)).append(" м/с (").append(df.format(relError)).append("%)\n\n");
-
-                        if (maxVAna * 3.6 / 1.609 > 1000) {
-                            report.append("✅ ТЕОРЕТИЧЕСКИ ПОБЬЕТ РЕКОРД В 1000 МИЛЬ/ЧАС!\n");
-                        } else {
-                            report.append("❌ Не хватает для рекорда в 1000 миль/час.\n");
-                        }
-                    }
-
                     resultArea.setText(report.toString());
-                    resultArea.setCaretPosition(0);
+                    new ComparisonDialog(this, report, COMPARISON_MAX_ERROR).setVisible(true);
                 });
-
             } catch (Exception e) {
-                SwingUtilities.invokeLater(() ->
-                        resultArea.setText("Ошибка во время симуляции:\n" + e.getMessage()));
+                SwingUtilities.invokeLater(() -> resultArea.setText("Ошибка сравнения методов:\n" + e.getMessage()));
+            }
+        });
+    }
+
+    private void runSimulation(ControlPanel.SimulationParams params) {
+        // Вызывается из EDT: предыдущий расчёт отменяется, его запоздавшие пачки отбрасываются
+        long generation = runGeneration.incrementAndGet();
+        if (currentRun != null) {
+            currentRun.cancel(true);
+        }
+
+        resultArea.setText("Выполнение симуляции...\n");
+        resultArea.setCaretPosition(resultArea.getDocument().getLength());
+
+        shownNumerical = null;
+        shownAnalytical = null;
+        numericalSeries.clear();
+        analyticalSeries.clear();
+        if (showsAnalytical(params)) {
+            if (dataset.indexOf(analyticalSeries) < 0) dataset.addSeries(analyticalSeries);
+        } else {
+            dataset.removeSeries(analyticalSeries);
+        }
+
+        int plotWidth = plotWidth();
+        currentRun = executor.submit(() -> simulate(params, generation, plotWidth));
+    }
+
+    // Ширина области построения в пикселях — столько столбцов прореживания
+    private int plotWidth() {
+        int width = (int) chartPanel.getScreenDataArea().getWidth();
+        return width > 0 ? width : Math.max(500, chartPanel.getWidth());
+    }
+
+    // Перестраивает ряды под видимый интервал оси времени (вызывается из EDT)
+    private void resample() {
+        if (resampling || shownNumerical == null) return;
+        resampling = true;
+        try {
+            ValueAxis axis = chartPanel.getChart().getXYPlot().getDomainAxis();
+            double low, high;
+            if (axis.isAutoRange()) {
+                low = shownNumerical.getTime(0);
+                high = shownNumerical.getTime(shownNumerical.size() - 1);
+            } else {
+                low = axis.getLowerBound();
+                high = axis.getUpperBound();
+            }
+            int buckets = plotWidth();
+            Downsampler.minMax(shownNumerical, low, high, buckets, 3.6, numericalSeries);
+            if (shownAnalytical != null) {
+                Downsampler.minMax(shownAnalytical, low, high, buckets, 3.6, analyticalSeries);
+            }
+        } finally {
+            resampling = false;
+        }
+    }
+
+    private void simulate(ControlPanel.SimulationParams params, long generation, int plotWidth) {
+        BooleanSupplier isCurrent = () -> runGeneration.get() == generation;
+        try {
+            SolutionCache cache = SolutionCache.shared();
+            VehicleParameters vehicle = params.vehicle;
+
+            // Численное решение: при промахе кеша точки идут на график прямо из решателя
+            // Во время расчёта — грубое прореживание по (steps+1)/(2·ширина) точек на столбец
+            int bucketSize = (params.steps + 1) / (2 * plotWidth);
+            SeriesPublisher numericalPublisher = new SeriesPublisher(numericalSeries, isCurrent, 3.6, bucketSize);
+            SimulationResult numericalResult;
+            if (params.mission != null) {
+                numericalResult = cache.mission(params.mission, params.method, params.steps, numericalPublisher);
+            } else {
+                numericalResult = "euler".equals(params.method) ?
+                        cache.eulerWithEvents(vehicle, params.steps, numericalPublisher) :
+                        cache.rk4WithEvents(vehicle, params.steps, numericalPublisher);
             }
-        }).start();
+            if (numericalPublisher.getReceived() == 0) {
+                numericalPublisher.replay(numericalResult);
+            } else {
+                numericalPublisher.finish();
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (isCurrent.getAsBoolean()) numericalSeries.setKey(numericalResult.getMethodName());
+            });
+
+            SimulationResult analyticalResult = null;
+            if (showsAnalytical(params)) {
+                analyticalResult = params.mission != null
+                        ? cache.analyticalMission(params.mission, params.terms, 200)
+                        : cache.analytical(vehicle, params.terms, 200);
+                new SeriesPublisher(analyticalSeries, isCurrent, 3.6).replay(analyticalResult);
+                String key = analyticalResult.getMethodName();
+                SwingUtilities.invokeLater(() -> {
+                    if (isCurrent.getAsBoolean()) analyticalSeries.setKey(key);
+                });
+            }
+
+            if (!isCurrent.getAsBoolean()) return;
+            MonteCarloReport known = uncertainties.get(vehicle);
+            String report = buildReport(params, numericalResult, analyticalResult, known, cache);
+            SimulationResult shownAnalyticalResult = analyticalResult;
+            SwingUtilities.invokeLater(() -> {
+                if (!isCurrent.getAsBoolean()) return;
+                // Предварительную картинку заменяем точным прореживанием под текущий масштаб
+                shownNumerical = numericalResult;
+                shownAnalytical = shownAnalyticalResult;
+                resample();
+                resultArea.setText(report);
+                resultArea.setCaretPosition(0);
+            });
+            if (known != null) return;
+
+            // Вероятность рекорда при разбросе BETA, MU, U — пакеты RK4 на грубой сетке. Новый запуск
+            // или перетаскивание ползунка прерывает выборку между волнами пакетов
+            MonteCarloReport uncertainty = MonteCarloStudy.relativeUncertainty(vehicle, UNCERTAINTY_SPREAD)
+                    .run(UNCERTAINTY_STEPS, UNCERTAINTY_MAX_SAMPLES, UNCERTAINTY_CI, 1, isCurrent);
+            uncertainties.put(vehicle, uncertainty);
+            String fullReport = buildReport(params, numericalResult, analyticalResult, uncertainty, cache);
+            SwingUtilities.invokeLater(() -> {
+                if (!isCurrent.getAsBoolean()) return;
+                resultArea.setText(fullReport);
+                resultArea.setCaretPosition(0);
+            });
+        } catch (CancellationException e) {
+            // Расчёт заменён более новым — ничего не показываем
+        } catch (Exception e) {
+            SwingUtilities.invokeLater(() -> {
+                if (isCurrent.getAsBoolean()) {
+                    resultArea.setText("Ошибка во время симуляции:\n" + e.getMessage());
+                }
+            });
+        }
+    }
+
+    // Формируем отчет; uncertainty == null — оценка ещё считается
+    private static String buildReport(ControlPanel.SimulationParams params, SimulationResult numericalResult,
+                                      SimulationResult analyticalResult, MonteCarloReport uncertainty,
+                                      SolutionCache cache) {
+        StringBuilder report = new StringBuilder();
+        DecimalFormat df = new DecimalFormat("#.##");
+        DecimalFormat df4 = new DecimalFormat("#.####");
+
+        report.append("=== РЕЗУЛЬТАТЫ СИМУЛЯЦИИ ===\n\n");
+        report.append("Параметры:\n");
+        report.append("  - Модель: ").append(params.vehicle).append("\n");
+        report.append("  - Метод: ").append(numericalResult.getMethodName()).append("\n");
+        report.append("  - Число шагов: ").append(params.steps).append("\n");
+        if (params.mission != null) {
+            report.append("  - Сценарий: накат ").append(df.format(params.mission.coastDuration))
+                    .append(" с, парашют ").append(df.format(params.mission.brakeDrag)).append(" кг/м\n");
+        }
+        if (params.showAnalytical) {
+            report.append("  - Число членов ряда: ").append(params.terms).append("\n\n");
+        }
+
+        double maxVNum = numericalResult.getMaxVelocity();
+        report.append("ЧИСЛЕННЫЙ МЕТОД:\n");
+        report.append("  - Макс. скорость: ").append(df.format(maxVNum)).append(" м/с\n");
+        report.append("                  = ").append(df.format(maxVNum * 3.6)).append(" км/ч\n");
+        report.append("                  = ").append(df.format(maxVNum * 3.6 / 1.609)).append(" миль/ч\n");
+        report.append("  - Время максимума: ").append(df.format(numericalResult.getTimeOfMaxVelocity())).append(" с\n");
+        for (SimulationEvent event : numericalResult.getEvents()) {
+            report.append("  - ").append(event.name).append(": t = ").append(df4.format(event.time))
+                    .append(" с, v = ").append(df.format(event.velocity)).append(" м/с");
+            if (event.hasDistance()) {
+                report.append(", x = ").append(df.format(event.distance)).append(" м");
+            }
+            report.append("\n");
+        }
+        report.append("\n");
+
+        if (analyticalResult == null && params.showAnalytical) {
+            report.append("АНАЛИТИЧЕСКОЕ РЕШЕНИЕ: недоступно.\n  ")
+                    .append(AnalyticalSolver.unavailableReason(params.vehicle)).append("\n");
+        }
+        if (analyticalResult != null) {
+            double maxVAna = analyticalResult.getMaxVelocity();
+            double error = Math.abs(maxVNum - maxVAna);
+            double relError = (error / maxVAna) * 100;
+
+            report.append("АНАЛИТИЧЕСКОЕ РЕШЕНИЕ:\n");
+            report.append("  - Макс. скорость: ").append(df.format(maxVAna)).append(" м/с\n");
+            report.append("  - Погрешность:    ").append(df4.format(error)).append(" м/с (").append(df.format(relError)).append("%)\n\n");
+
+            if (maxVAna * 3.6 / 1.609 > 1000) {
+                report.append("✅ ТЕОРЕТИЧЕСКИ ПОБЬЕТ РЕКОРД В 1000 МИЛЬ/ЧАС!\n");
+            } else {
+                report.append("❌ Не хватает для рекорда в 1000 миль/час.\n");
+            }
+        }
+
+        report.append("\nНЕОПРЕДЕЛЁННОСТЬ (σ = ").append(df.format(UNCERTAINTY_SPREAD * 100))
+                .append("% для BETA, MU, U; RK4, ").append(UNCERTAINTY_STEPS).append(" шагов):\n");
+        if (uncertainty == null) {
+            report.append("  - оценивается...\n");
+        } else {
+            appendUncertainty(report, uncertainty, df, df4);
+        }
+
+        report.append("\nКеш решений: ").append(cache).append("\n");
+        report.append("\nМетрики решателей за сеанс:\n").append(SolverMetrics.dump());
+        return report.toString();
+    }
+
+    private static void appendUncertainty(StringBuilder report, MonteCarloReport uncertainty,
+                                          DecimalFormat df, DecimalFormat df4) {
+        report.append("  - Вероятность рекорда: ").append(df4.format(uncertainty.getRecordProbability()))
+                .append(" [").append(df4.format(uncertainty.getRecordProbabilityLow())).append(", ")
+                .append(df4.format(uncertainty.getRecordProbabilityHigh())).append("]\n");
+        report.append("  - Макс. скорость 5–95%: ").append(df.format(uncertainty.getQuantile(0.05))).append(" – ")
+                .append(df.format(uncertainty.getQuantile(0.95))).append(" м/с\n");
+        report.append("  - Выборок: ").append(uncertainty.getSamples()).append("\n");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+// src/main/java/com/aussieinvader/gui/SeriesPublisher.java
+package com.aussieinvader.gui;
+
+import com.aussieinvader.core.SimulationResult;
+import com.aussieinvader.core.TrajectorySink;
+import org.jfree.data.xy.XYSeries;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+// Передаёт точки из рабочего потока в XYSeries пачками: одна задача в EDT на CHUNK точек,
+// уведомления графика на время пачки отключены. Между пачками проверяется прерывание,
+// так что отменённый расчёт останавливается внутри решателя.
+// Пока расчёт идёт, каждые bucketSize точек сводятся к минимуму и максимуму — предварительная
+// картинка; точное прореживание под видимый интервал делает Downsampler по готовому результату.
+class SeriesPublisher implements TrajectorySink {
+    private static final int CHUNK = 4096;
+
+    private final XYSeries series;
+    private final BooleanSupplier isCurrent;
+    private final double scale;
+    private final int bucketSize;
+
+    // Текущий столбец прореживания
+    private int inBucket;
+    private double minT, minV, maxT, maxV;
+
+    private final double[] xs = new double[CHUNK];
+    private final double[] ys = new double[CHUNK];
+    private int pending;
+    private long received;
+
+    // scale — перевод скорости в единицы графика (км/ч)
+    SeriesPublisher(XYSeries series, BooleanSupplier isCurrent, double scale) {
+        this(series, isCurrent, scale, 1);
+    }
+
+    // bucketSize — сколько точек решателя сводится к паре (min, max)
+    SeriesPublisher(XYSeries series, BooleanSupplier isCurrent, double scale, int bucketSize) {
+        this.series = series;
+        this.isCurrent = isCurrent;
+        this.scale = scale;
+        this.bucketSize = Math.max(1, bucketSize);
+    }
+
+    @Override
+    public void add(double t, double v, double m) {
+        received++;
+        if (bucketSize == 1) {
+            push(t, v);
+            return;
+        }
+        if (inBucket == 0 || v < minV) { minT = t; minV = v; }
+        if (inBucket == 0 || v > maxV) { maxT = t; maxV = v; }
+        if (++inBucket == bucketSize) {
+            closeBucket();
+        }
+    }
+
+    private void closeBucket() {
+        if (inBucket == 0) return;
+        if (minT == maxT) {
+            push(minT, minV);
+        } else if (minT < maxT) {
+            push(minT, minV);
+            push(maxT, maxV);
+        } else {
+            push(maxT, maxV);
+            push(minT, minV);
+        }
+        inBucket = 0;
+    }
+
+    private void push(double t, double v) {
+        xs[pending] = t;
+        ys[pending] = v * scale;
+        if (++pending == CHUNK) {
+            flush();
+        }
+    }
+
+    // Решение взято из кеша — точки не проходили через add
+    void replay(SimulationResult result) {
+        for (int i = 0; i < result.size(); i++) {
+            add(result.getTime(i), result.getVelocity(i), result.getMass(i));
+        }
+        finish();
+    }
+
+    // Сколько точек пришло от решателя
+    long getReceived() { return received; }
+
+    void finish() {
+        closeBucket();
+        flush();
+    }
+
+    private void flush() {
+        if (Thread.currentThread().isInterrupted() || !isCurrent.getAsBoolean()) {
+            throw new CancellationException("Расчёт заменён более новым");
+        }
+        if (pending == 0) return;
+        double[] x = Arrays.copyOf(xs, pending);
+        double[] y = Arrays.copyOf(ys, pending);
+        pending = 0;
+        SwingUtilities.invokeLater(() -> {
+            if (!isCurrent.getAsBoolean()) return;
+            series.setNotify(false);
+            for (int i = 0; i < x.length; i++) {
+                series.add(x[i], y[i], false);
+            }
+            series.setNotify(true);
+        });
+    }
+}